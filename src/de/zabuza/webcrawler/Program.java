@@ -1,17 +1,24 @@
 package de.zabuza.webcrawler;
 
 import java.io.BufferedWriter;
+import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.Calendar;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import de.zabuza.webcrawler.archive.PageArchive;
 import de.zabuza.webcrawler.enums.SlotType;
 import de.zabuza.webcrawler.external.ExtEventData;
 import de.zabuza.webcrawler.external.ExtPlayerData;
+import de.zabuza.webcrawler.parse.AdaptiveRuleOrder;
+import de.zabuza.webcrawler.parse.ExcludedPlayers;
+import de.zabuza.webcrawler.parse.SlotLineParser;
+import de.zabuza.webcrawler.parse.SlotTypeRules;
 import de.zabuza.webcrawler.struct.EventList;
 import de.zabuza.webcrawler.util.CrawlerUtil;
+import de.zabuza.webcrawler.util.ParseTelemetry;
 
 /**
  * Class used to start the tool.
@@ -21,18 +28,52 @@ import de.zabuza.webcrawler.util.CrawlerUtil;
  */
 @SuppressWarnings("unused")
 public final class Program {
+	/**
+	 * Amount of event threads that get fetched and parsed at the same time.
+	 */
+	private static final int CRAWL_PARALLELISM = 4;
+	/**
+	 * Ceiling of the request rate when crawling, in requests per second.
+	 */
+	private static final double CRAWL_REQUEST_RATE = 4.0;
 	/**
 	 * Path to the file that contains external data.
 	 */
 	private static final String FILEPATH_EXT_DATA = "res/DatenInput.csv";
+	/**
+	 * Path to the directory where fetched web pages get cached.
+	 */
+	private static final String FILEPATH_HTTP_CACHE = "res/httpCache";
 	/**
 	 * Path to the file that contains the output of the program.
 	 */
 	private static final String FILEPATH_OUTPUT = "res/output.txt";
+	/**
+	 * Path to the archive all fetched web pages get appended to.
+	 */
+	private static final String FILEPATH_PAGE_ARCHIVE = "res/pageArchive.gz";
 	/**
 	 * Path to the location where the event list gets serialized.
 	 */
 	private static final String FILEPATH_SERIALIZATION = "res/eventList.ser";
+	/**
+	 * Path to the file where the learned order of the slot line rules gets
+	 * saved between runs.
+	 */
+	private static final String FILEPATH_SLOT_LINE_RULE_ORDER = "res/slotLineRuleOrder.bin";
+	/**
+	 * Path to the file where the slot type cache gets saved between runs.
+	 */
+	private static final String FILEPATH_SLOT_TYPE_CACHE = "res/slotTypeCache.bin";
+	/**
+	 * Path to the file where the learned order of the slot type rules gets
+	 * saved between runs.
+	 */
+	private static final String FILEPATH_SLOT_TYPE_RULE_ORDER = "res/slotTypeRuleOrder.bin";
+	/**
+	 * Amount of workers that parse archived event threads at the same time.
+	 */
+	private static final int REPARSE_PARALLELISM = Runtime.getRuntime().availableProcessors();
 
 	/**
 	 * Starts the crawler.
@@ -57,15 +98,87 @@ public final class Program {
 		 * CAUTION **********************
 		 */
 		final boolean updateList = false;
+		/*
+		 * If true and an update is requested the program will only crawl
+		 * events that are new since the serialized list was created and add
+		 * them to it. Changes to events of the serialized list are not
+		 * detected. Falls back to a full crawl if there is no serialized list
+		 * yet.
+		 */
+		final boolean incrementalUpdate = false;
+		/*
+		 * If true and no update is requested the program will create the list
+		 * by parsing the pages of the archive that was written while crawling,
+		 * on all cores. This causes no web-traffic and is used after changes
+		 * to the parser.
+		 */
+		final boolean reparseArchive = false;
+		/*
+		 * If true the slot types that slot texts got classified as are saved
+		 * after crawling and loaded again in the next run. The saved file must
+		 * be deleted after changes to the slot type parser, it is never loaded
+		 * when parsing the archive.
+		 */
+		final boolean persistSlotTypes = false;
+		/*
+		 * If true the parsers record which of their rules match while crawling
+		 * or parsing the archive and save the rule order learned from it.
+		 * Saved orders are always loaded, the parsers then try the rules that
+		 * won most often first. An order is only loaded for the rules it was
+		 * learned for and never changes the parse results.
+		 */
+		final boolean learnRuleOrder = false;
 
 		final Map<Calendar, ExtEventData> extEventData = Filecrawler.processExternalEventData(FILEPATH_EXT_DATA);
 		final Map<String, ExtPlayerData> extPlayerData = Filecrawler.processExternalPlayerData(FILEPATH_EXT_DATA);
 
+		final AdaptiveRuleOrder slotLineRuleOrder = SlotLineParser.getRuleOrder();
+		final AdaptiveRuleOrder slotTypeRuleOrder = SlotTypeRules.getRuleOrder();
+		slotLineRuleOrder.load(FILEPATH_SLOT_LINE_RULE_ORDER);
+		slotTypeRuleOrder.load(FILEPATH_SLOT_TYPE_RULE_ORDER);
+		slotLineRuleOrder.setLearning(learnRuleOrder);
+		slotTypeRuleOrder.setLearning(learnRuleOrder);
+
 		EventList list = null;
 		if (updateList) {
 			System.out.println("Crawling events...");
-			list = Webcrawler.crawlWeb(extEventData, true);
+			CrawlerUtil.setMaxParallelFetches(CRAWL_PARALLELISM);
+			CrawlerUtil.setMaxRequestRate(CRAWL_REQUEST_RATE);
+			CrawlerUtil.setHttpCache(FILEPATH_HTTP_CACHE);
+			if (persistSlotTypes) {
+				Webcrawler.getSlotTypeCache().load(FILEPATH_SLOT_TYPE_CACHE);
+			}
+			try (final PageArchive archive = new PageArchive(FILEPATH_PAGE_ARCHIVE)) {
+				CrawlerUtil.setPageArchive(archive);
+				EventList snapshot = null;
+				if (incrementalUpdate && new File(FILEPATH_SERIALIZATION).isFile()) {
+					snapshot = CrawlerUtil.deserialize(FILEPATH_SERIALIZATION);
+				}
+				if (snapshot == null) {
+					list = Webcrawler.crawlWeb(extEventData, true, CRAWL_PARALLELISM);
+				} else {
+					list = Webcrawler.crawlWebIncremental(snapshot, extEventData, true, CRAWL_PARALLELISM);
+				}
+			} finally {
+				CrawlerUtil.setPageArchive(null);
+			}
 			System.out.println("Crawling done.");
+			System.out.println("Requests: " + CrawlerUtil.getFetchStatistics());
+			System.out.println("Slot types: " + Webcrawler.getSlotTypeCache());
+			System.out.println("Excluded players: " + ExcludedPlayers.getStatistics());
+			if (persistSlotTypes) {
+				Webcrawler.getSlotTypeCache().save(FILEPATH_SLOT_TYPE_CACHE);
+			}
+
+			System.out.println("Serializing event list...");
+			CrawlerUtil.serialize(list, FILEPATH_SERIALIZATION);
+			System.out.println("Serialization done.");
+		} else if (reparseArchive) {
+			System.out.println("Parsing archived events...");
+			list = Webcrawler.crawlArchive(FILEPATH_PAGE_ARCHIVE, extEventData, true, REPARSE_PARALLELISM);
+			System.out.println("Parsing done.");
+			System.out.println("Slot types: " + Webcrawler.getSlotTypeCache());
+			System.out.println("Excluded players: " + ExcludedPlayers.getStatistics());
 
 			System.out.println("Serializing event list...");
 			CrawlerUtil.serialize(list, FILEPATH_SERIALIZATION);
@@ -74,6 +187,17 @@ public final class Program {
 			list = CrawlerUtil.deserialize(FILEPATH_SERIALIZATION);
 		}
 
+		if (learnRuleOrder && (updateList || reparseArchive)) {
+			slotLineRuleOrder.setLearning(false);
+			slotTypeRuleOrder.setLearning(false);
+			slotLineRuleOrder.reorder();
+			slotTypeRuleOrder.reorder();
+			slotLineRuleOrder.save(FILEPATH_SLOT_LINE_RULE_ORDER);
+			slotTypeRuleOrder.save(FILEPATH_SLOT_TYPE_RULE_ORDER);
+			System.out.println("Slot line rules: " + slotLineRuleOrder);
+			System.out.println("Slot type rules: " + slotTypeRuleOrder);
+		}
+
 		System.out.println("Printing results...");
 		try (final BufferedWriter wr = new BufferedWriter(new FileWriter(FILEPATH_OUTPUT))) {
 			wr.write(list.toString());
@@ -178,6 +302,7 @@ public final class Program {
 		 * extPlayerData); System.out.println("Exporting done.");
 		 */
 
+		System.out.println("Parse failures: " + ParseTelemetry.getSummary());
 	}
 
 	/**
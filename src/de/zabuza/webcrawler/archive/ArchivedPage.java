@@ -0,0 +1,63 @@
+package de.zabuza.webcrawler.archive;
+
+import java.util.List;
+
+/**
+ * Data container for a web page stored in the {@link PageArchive}. Stores the
+ * content of the page together with its url and the time it was fetched at.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ArchivedPage {
+	/**
+	 * Content of the page as list of lines.
+	 */
+	private final List<String> content;
+	/**
+	 * Time the page was fetched at, in milliseconds since the epoch.
+	 */
+	private final long fetchTime;
+	/**
+	 * Url of the page.
+	 */
+	private final String url;
+
+	/**
+	 * Creates a new data container for an archived page.
+	 * 
+	 * @param thatUrl
+	 *            Url of the page
+	 * @param thatFetchTime
+	 *            Time the page was fetched at, in milliseconds since the
+	 *            epoch
+	 * @param thatContent
+	 *            Content of the page as list of lines
+	 */
+	public ArchivedPage(final String thatUrl, final long thatFetchTime, final List<String> thatContent) {
+		this.url = thatUrl;
+		this.fetchTime = thatFetchTime;
+		this.content = thatContent;
+	}
+
+	/**
+	 * @return the content
+	 */
+	public List<String> getContent() {
+		return this.content;
+	}
+
+	/**
+	 * @return the fetchTime
+	 */
+	public long getFetchTime() {
+		return this.fetchTime;
+	}
+
+	/**
+	 * @return the url
+	 */
+	public String getUrl() {
+		return this.url;
+	}
+}
@@ -0,0 +1,102 @@
+package de.zabuza.webcrawler.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only archive of fetched web pages. Every page is compressed as an own
+ * GZIP member and appended to the archive file, the file therefore stays a
+ * valid GZIP stream and pages of earlier crawls are never rewritten. The
+ * archive can be read with {@link PageArchiveReader}, which allows to parse
+ * the pages again without using the network.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PageArchive implements Closeable {
+	/**
+	 * Version of the record format, written in front of every page.
+	 */
+	static final int FORMAT_VERSION = 1;
+
+	/**
+	 * Stream to the archive file.
+	 */
+	private final OutputStream archive;
+	/**
+	 * Amount of pages appended to the archive.
+	 */
+	private int pages;
+
+	/**
+	 * Opens the archive at the given path. Pages get appended to it, the file
+	 * is created if it does not exist.
+	 * 
+	 * @param path
+	 *            Path to the archive file
+	 * @throws IOException
+	 *             If the file could not be opened
+	 */
+	public PageArchive(final String path) throws IOException {
+		this.archive = new FileOutputStream(path, true);
+		this.pages = 0;
+	}
+
+	/**
+	 * Appends a fetched page to the archive.
+	 * 
+	 * @param url
+	 *            Url of the page
+	 * @param content
+	 *            Content of the page as list of lines
+	 * @throws IOException
+	 *             If an I/O-Exception occurs
+	 */
+	public void append(final String url, final List<String> content) throws IOException {
+		// Compress outside of the lock, only the write is serialized
+		final ByteArrayOutputStream record = new ByteArrayOutputStream();
+		try (final DataOutputStream output = new DataOutputStream(new GZIPOutputStream(record))) {
+			output.writeInt(FORMAT_VERSION);
+			output.writeUTF(url);
+			output.writeLong(System.currentTimeMillis());
+			output.writeInt(content.size());
+			for (final String line : content) {
+				final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+				output.writeInt(bytes.length);
+				output.write(bytes);
+			}
+		}
+
+		synchronized (this) {
+			record.writeTo(this.archive);
+			this.archive.flush();
+			this.pages++;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		this.archive.close();
+	}
+
+	/**
+	 * Gets the amount of pages appended to the archive since it was opened.
+	 * 
+	 * @return Amount of appended pages
+	 */
+	public synchronized int getPages() {
+		return this.pages;
+	}
+}
@@ -0,0 +1,120 @@
+package de.zabuza.webcrawler.archive;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Reads the pages of a {@link PageArchive} in the order they were appended. A
+ * page that was only partially written, for example because a crawl got
+ * aborted, ends the archive.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PageArchiveReader implements Closeable {
+	/**
+	 * Size of the buffer used to read the archive file.
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Stream to the decompressed archive.
+	 */
+	private final DataInputStream archive;
+	/**
+	 * Whether the end of the archive was reached.
+	 */
+	private boolean finished;
+
+	/**
+	 * Opens the archive at the given path for reading.
+	 * 
+	 * @param path
+	 *            Path to the archive file
+	 * @throws IOException
+	 *             If the file could not be opened or is no archive
+	 */
+	public PageArchiveReader(final String path) throws IOException {
+		final FileInputStream file = new FileInputStream(path);
+		DataInputStream stream = null;
+		try {
+			// GZIP members of all pages are read as one continuous stream
+			stream = new DataInputStream(
+					new GZIPInputStream(new BufferedInputStream(file, BUFFER_SIZE), BUFFER_SIZE));
+		} catch (final EOFException e) {
+			// Empty archive
+			stream = null;
+		} finally {
+			if (stream == null) {
+				file.close();
+			}
+		}
+		this.archive = stream;
+		this.finished = stream == null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		this.finished = true;
+		if (this.archive != null) {
+			this.archive.close();
+		}
+	}
+
+	/**
+	 * Reads the next page of the archive.
+	 * 
+	 * @return The next page or <tt>null</tt> if the end of the archive was
+	 *         reached
+	 * @throws IOException
+	 *             If an I/O-Exception occurs or the archive has an unknown
+	 *             format
+	 */
+	public ArchivedPage next() throws IOException {
+		if (this.finished) {
+			return null;
+		}
+
+		try {
+			final int version;
+			try {
+				version = this.archive.readInt();
+			} catch (final EOFException e) {
+				this.finished = true;
+				return null;
+			}
+			if (version != PageArchive.FORMAT_VERSION) {
+				throw new IOException("Unknown archive format version: " + version);
+			}
+
+			final String url = this.archive.readUTF();
+			final long fetchTime = this.archive.readLong();
+			final int lines = this.archive.readInt();
+			final List<String> content = new ArrayList<>(lines);
+			for (int i = 0; i < lines; i++) {
+				final byte[] bytes = new byte[this.archive.readInt()];
+				this.archive.readFully(bytes);
+				content.add(new String(bytes, StandardCharsets.UTF_8));
+			}
+			return new ArchivedPage(url, fetchTime, content);
+		} catch (EOFException | ZipException e) {
+			// Page was only partially written
+			this.finished = true;
+			return null;
+		}
+	}
+}
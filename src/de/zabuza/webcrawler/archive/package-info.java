@@ -0,0 +1,4 @@
+/**
+ * This is the package of web crawlers archive of fetched pages.
+ */
+package de.zabuza.webcrawler.archive;
\ No newline at end of file
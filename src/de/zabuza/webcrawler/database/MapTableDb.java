@@ -5,6 +5,8 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import de.zabuza.webcrawler.util.ParseTelemetry;
+
 /**
  * Utility class that links maps and their ids.
  * 
@@ -160,7 +162,7 @@ public final class MapTableDb implements Iterable<Entry<Integer, String>> {
 	public Integer getId(final String map) {
 		final Integer id = this.mapToId.get(map);
 		if (id == null) {
-			System.err.println("Database table does not know id of map: " + map);
+			ParseTelemetry.report("Database table does not know id of map", map);
 		}
 		return id;
 	}
@@ -175,7 +177,7 @@ public final class MapTableDb implements Iterable<Entry<Integer, String>> {
 	public String getMap(final int id) {
 		final String map = this.idToMap.get(Integer.valueOf(id));
 		if (map == null) {
-			System.err.println("Database table does not know map with id: " + id);
+			ParseTelemetry.report("Database table does not know map with id", Integer.toString(id));
 		}
 		return map;
 	}
@@ -6,6 +6,7 @@ import java.util.TreeMap;
 import java.util.Map.Entry;
 
 import de.zabuza.webcrawler.util.InsensitiveComparator;
+import de.zabuza.webcrawler.util.ParseTelemetry;
 
 /**
  * Utility class that links user names and their ids.
@@ -756,7 +757,7 @@ public final class UserTableDb {
 			if (user.equals("Ulfberth")) {
 				return Integer.valueOf(472);
 			}
-			System.err.println("Database table does not know id of user: " + user);
+			ParseTelemetry.report("Database table does not know id of user", user);
 		}
 		return id;
 	}
@@ -771,7 +772,7 @@ public final class UserTableDb {
 	public String getUser(final int id) {
 		final String user = this.idToUser.get(Integer.valueOf(id));
 		if (user == null) {
-			System.err.println("Database table does not know user with id: " + id);
+			ParseTelemetry.report("Database table does not know user with id", Integer.toString(id));
 		}
 		return user;
 	}
@@ -0,0 +1,33 @@
+package de.zabuza.webcrawler.enums;
+
+/**
+ * Enumeration of all kinds of rules that match titles of event threads.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ */
+public enum TitleRuleKind {
+	/**
+	 * Overrides the date of the event.
+	 */
+	DATE,
+	/**
+	 * Marks threads that are no events.
+	 */
+	EXCLUSION,
+	/**
+	 * Overrides the name of the event.
+	 */
+	NAME,
+	/**
+	 * Overrides the size of the event.
+	 */
+	SIZE,
+	/**
+	 * Overrides the starting time of the event.
+	 */
+	TIME,
+	/**
+	 * Overrides the type of the event.
+	 */
+	TYPE
+}
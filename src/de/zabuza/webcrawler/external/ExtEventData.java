@@ -66,7 +66,8 @@ public final class ExtEventData {
 	}
 
 	/**
-	 * Gets the list of players for this event.
+	 * Gets the list of players for this event. The list is backed by this
+	 * event, removing a player from it removes the player from this event.
 	 * 
 	 * @return List of players
 	 */
@@ -0,0 +1,91 @@
+package de.zabuza.webcrawler.net;
+
+/**
+ * Data container for a web page stored in the {@link HttpCache}. Stores the
+ * raw body together with its content type and the validators the server sent
+ * for it.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class CachedPage {
+	/**
+	 * Raw body of the page.
+	 */
+	private final byte[] body;
+	/**
+	 * Content type of the page as sent by the server or <tt>null</tt> if the
+	 * server sent none.
+	 */
+	private final String contentType;
+	/**
+	 * Entity tag of the page or <tt>null</tt> if the server sent none.
+	 */
+	private final String eTag;
+	/**
+	 * Last modification date of the page as sent by the server or
+	 * <tt>null</tt> if the server sent none.
+	 */
+	private final String lastModified;
+
+	/**
+	 * Creates a new data container for a cached page.
+	 * 
+	 * @param thatBody
+	 *            Raw body of the page
+	 * @param thatContentType
+	 *            Content type of the page as sent by the server or
+	 *            <tt>null</tt> if the server sent none
+	 * @param thatETag
+	 *            Entity tag of the page or <tt>null</tt> if the server sent
+	 *            none
+	 * @param thatLastModified
+	 *            Last modification date of the page as sent by the server or
+	 *            <tt>null</tt> if the server sent none
+	 */
+	public CachedPage(final byte[] thatBody, final String thatContentType, final String thatETag,
+			final String thatLastModified) {
+		this.body = thatBody;
+		this.contentType = thatContentType;
+		this.eTag = thatETag;
+		this.lastModified = thatLastModified;
+	}
+
+	/**
+	 * @return the body
+	 */
+	public byte[] getBody() {
+		return this.body;
+	}
+
+	/**
+	 * @return the contentType
+	 */
+	public String getContentType() {
+		return this.contentType;
+	}
+
+	/**
+	 * @return the eTag
+	 */
+	public String getETag() {
+		return this.eTag;
+	}
+
+	/**
+	 * @return the lastModified
+	 */
+	public String getLastModified() {
+		return this.lastModified;
+	}
+
+	/**
+	 * Whether the page has a validator the server can check it against.
+	 * 
+	 * @return <tt>True</tt> if the page has an entity tag or a last
+	 *         modification date
+	 */
+	public boolean hasValidator() {
+		return this.eTag != null || this.lastModified != null;
+	}
+}
@@ -0,0 +1,221 @@
+package de.zabuza.webcrawler.net;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLong;
+import de.zabuza.webcrawler.util.CrawlerUtil;
+import de.zabuza.webcrawler.util.DataWriter;
+
+/**
+ * Persistent cache for web pages. Each page is stored in its own file together
+ * with the validators the server sent for it, so that a later request can be
+ * revalidated with a conditional GET. Unchanged pages then cost a
+ * <tt>304</tt> response instead of the full body.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class HttpCache {
+	/**
+	 * Algorithm used to derive file names from urls.
+	 */
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+	/**
+	 * File extension of cached pages.
+	 */
+	private static final String FILE_EXTENSION = ".page";
+	/**
+	 * Version of the file format, pages stored in another format are ignored.
+	 */
+	private static final int FORMAT_VERSION = 2;
+	/**
+	 * Digits used to print a hash as hexadecimal text.
+	 */
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+	/**
+	 * Text that stands for a missing validator in the file format.
+	 */
+	private static final String NO_VALUE = "";
+
+	/**
+	 * Converts a validator read from the file format back.
+	 * 
+	 * @param value
+	 *            Value as read from the file format
+	 * @return The validator or <tt>null</tt> if it is missing
+	 */
+	private static String fromStoredValue(final String value) {
+		if (value.equals(NO_VALUE)) {
+			return null;
+		}
+		return value;
+	}
+
+	/**
+	 * Converts a validator to the file format.
+	 * 
+	 * @param value
+	 *            Validator to convert, may be <tt>null</tt>
+	 * @return Value for the file format
+	 */
+	private static String toStoredValue(final String value) {
+		if (value == null) {
+			return NO_VALUE;
+		}
+		return value;
+	}
+
+	/**
+	 * Amount of bytes downloaded from the server.
+	 */
+	private final AtomicLong bytesDownloaded;
+	/**
+	 * Amount of bytes served from the cache after the server confirmed them.
+	 */
+	private final AtomicLong bytesSaved;
+	/**
+	 * Directory the pages are stored in.
+	 */
+	private final File directory;
+	/**
+	 * Amount of pages downloaded from the server.
+	 */
+	private final AtomicLong downloaded;
+	/**
+	 * Amount of pages the server confirmed as not modified.
+	 */
+	private final AtomicLong notModified;
+
+	/**
+	 * Creates a new cache that stores pages in the given directory. The
+	 * directory gets created if it does not exist.
+	 * 
+	 * @param path
+	 *            Path to the directory
+	 * @throws IOException
+	 *             If the directory could not be created
+	 */
+	public HttpCache(final String path) throws IOException {
+		this.directory = new File(path);
+		if (!this.directory.isDirectory() && !this.directory.mkdirs()) {
+			throw new IOException("Could not create cache directory: " + path);
+		}
+		this.bytesDownloaded = new AtomicLong();
+		this.bytesSaved = new AtomicLong();
+		this.downloaded = new AtomicLong();
+		this.notModified = new AtomicLong();
+	}
+
+	/**
+	 * Loads the cached page of the given url.
+	 * 
+	 * @param url
+	 *            Url of the page
+	 * @return The cached page or <tt>null</tt> if there is no valid entry
+	 */
+	public CachedPage load(final String url) {
+		final File file = getFile(url);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (final DataInputStream input = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(file)))) {
+			if (input.readInt() != FORMAT_VERSION || !input.readUTF().equals(url)) {
+				return null;
+			}
+			final String contentType = fromStoredValue(input.readUTF());
+			final String eTag = fromStoredValue(input.readUTF());
+			final String lastModified = fromStoredValue(input.readUTF());
+			final byte[] body = new byte[input.readInt()];
+			input.readFully(body);
+			return new CachedPage(body, contentType, eTag, lastModified);
+		} catch (final IOException e) {
+			// Broken entry, the page simply gets downloaded again
+			return null;
+		}
+	}
+
+	/**
+	 * Records that the server confirmed the given cached page as not
+	 * modified.
+	 * 
+	 * @param page
+	 *            Page that was served from the cache
+	 */
+	public void markNotModified(final CachedPage page) {
+		this.notModified.incrementAndGet();
+		this.bytesSaved.addAndGet(page.getBody().length);
+	}
+
+	/**
+	 * Stores a page that was downloaded from the server. Pages without a
+	 * validator can not be revalidated and are only recorded as download.
+	 * 
+	 * @param url
+	 *            Url of the page
+	 * @param page
+	 *            Page to store
+	 */
+	public void store(final String url, final CachedPage page) {
+		this.downloaded.incrementAndGet();
+		this.bytesDownloaded.addAndGet(page.getBody().length);
+		if (!page.hasValidator()) {
+			return;
+		}
+
+		final File file = getFile(url);
+		try {
+			CrawlerUtil.writeFileAtomically(file, new DataWriter() {
+				@Override
+				public void write(final DataOutputStream output) throws IOException {
+					output.writeInt(FORMAT_VERSION);
+					output.writeUTF(url);
+					output.writeUTF(toStoredValue(page.getContentType()));
+					output.writeUTF(toStoredValue(page.getETag()));
+					output.writeUTF(toStoredValue(page.getLastModified()));
+					output.writeInt(page.getBody().length);
+					output.write(page.getBody());
+				}
+			});
+		} catch (final IOException e) {
+			System.err.println("Error while caching page: " + url);
+			System.err.println(e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.downloaded.get() + " pages downloaded (" + this.bytesDownloaded.get() + " bytes), "
+				+ this.notModified.get() + " pages not modified (" + this.bytesSaved.get() + " bytes saved)";
+	}
+
+	/**
+	 * Gets the file the page of the given url is stored in.
+	 * 
+	 * @param url
+	 *            Url of the page
+	 * @return File of the page
+	 */
+	private File getFile(final String url) {
+		final byte[] hash;
+		try {
+			hash = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(url.getBytes(StandardCharsets.UTF_8));
+		} catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+
+		final StringBuilder name = new StringBuilder(hash.length * 2 + FILE_EXTENSION.length());
+		for (final byte value : hash) {
+			name.append(HEX_DIGITS[(value >> 4) & 0xF]).append(HEX_DIGITS[value & 0xF]);
+		}
+		name.append(FILE_EXTENSION);
+		return new File(this.directory, name.toString());
+	}
+}
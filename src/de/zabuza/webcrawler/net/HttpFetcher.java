@@ -0,0 +1,318 @@
+package de.zabuza.webcrawler.net;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+/**
+ * Fetches web pages over a single HTTP client that is shared by the whole
+ * crawl. The client keeps connections alive in a pool and negotiates HTTP/2
+ * if the server supports it, consecutive requests to the forum therefore do
+ * not pay a new TCP and TLS handshake.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class HttpFetcher {
+	/**
+	 * Timeout for establishing a connection, in seconds.
+	 */
+	private static final int CONNECT_TIMEOUT = 30;
+	/**
+	 * Default ceiling of the request rate in requests per second.
+	 */
+	private static final double DEFAULT_MAX_RATE = 4.0;
+	/**
+	 * Singleton instance of this class.
+	 */
+	private static HttpFetcher instance = null;
+	/**
+	 * Maximal amount of attempts for a request the server rejects due to
+	 * overload.
+	 */
+	private static final int MAX_ATTEMPTS = 3;
+	/**
+	 * Timeout for a whole request, in seconds.
+	 */
+	private static final int REQUEST_TIMEOUT = 60;
+	/**
+	 * Smallest status code of a response that signals an error.
+	 */
+	private static final int STATUS_ERROR_MIN = 400;
+	/**
+	 * Status code of a response that confirms a cached page as not modified.
+	 */
+	private static final int STATUS_NOT_MODIFIED = 304;
+	/**
+	 * Status code of a response that signals a missing page.
+	 */
+	private static final int STATUS_NOT_FOUND = 404;
+
+	/**
+	 * Gets the singleton instance of this class.
+	 * 
+	 * @return Singleton instance of this class
+	 */
+	public static synchronized HttpFetcher getInstance() {
+		if (instance == null) {
+			instance = new HttpFetcher();
+		}
+		return instance;
+	}
+
+	/**
+	 * Creates a SSL context that accepts all certificates.
+	 * 
+	 * @return The created SSL context
+	 */
+	private static SSLContext createTrustAllContext() {
+		final TrustManager[] trustAllCertificates = new TrustManager[] { new X509TrustManager() {
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see
+			 * javax.net.ssl.X509TrustManager#checkClientTrusted(java.security.
+			 * cert.X509Certificate[], java.lang.String)
+			 */
+			@Override
+			public void checkClientTrusted(final X509Certificate[] certs, final String authType) {
+				// Do nothing. Just allow them all.
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see
+			 * javax.net.ssl.X509TrustManager#checkServerTrusted(java.security.
+			 * cert.X509Certificate[], java.lang.String)
+			 */
+			@Override
+			public void checkServerTrusted(final X509Certificate[] certs, final String authType) {
+				// Do nothing. Just allow them all.
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see javax.net.ssl.X509TrustManager#getAcceptedIssuers()
+			 */
+			@Override
+			public X509Certificate[] getAcceptedIssuers() {
+				// Not relevant.
+				return new X509Certificate[0];
+			}
+		} };
+
+		try {
+			final SSLContext context = SSLContext.getInstance("TLS");
+			context.init(null, trustAllCertificates, new SecureRandom());
+			return context;
+		} catch (final GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Gets the value of the <tt>Content-Type</tt> header of a response.
+	 * 
+	 * @param response
+	 *            Response that may contain the header
+	 * @return The value of the header or <tt>null</tt> if it is missing
+	 */
+	private static String getContentType(final HttpResponse<?> response) {
+		return response.headers().firstValue("Content-Type").orElse(null);
+	}
+
+	/**
+	 * Parses the value of a <tt>Retry-After</tt> header.
+	 * 
+	 * @param response
+	 *            Response that may contain the header
+	 * @return Seconds to wait or <tt>0</tt> if the header is missing or not
+	 *         given in seconds
+	 */
+	private static long parseRetryAfter(final HttpResponse<?> response) {
+		final String value = response.headers().firstValue("Retry-After").orElse("").trim();
+		try {
+			return Math.max(0L, Long.parseLong(value));
+		} catch (final NumberFormatException e) {
+			return 0L;
+		}
+	}
+
+	/**
+	 * Cache that is used to revalidate pages or <tt>null</tt> if pages are
+	 * not cached.
+	 */
+	private volatile HttpCache cache;
+	/**
+	 * Client that is shared by all requests.
+	 */
+	private final HttpClient client;
+	/**
+	 * Limiter for the rate of all requests.
+	 */
+	private final RateLimiter limiter;
+
+	/**
+	 * Creates a new http fetcher.
+	 */
+	private HttpFetcher() {
+		this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
+				.followRedirects(HttpClient.Redirect.NORMAL).connectTimeout(Duration.ofSeconds(CONNECT_TIMEOUT))
+				.sslContext(createTrustAllContext()).build();
+		this.limiter = new RateLimiter(DEFAULT_MAX_RATE);
+		this.cache = null;
+	}
+
+	/**
+	 * Gets the content of a web page and feeds it line by line to the given
+	 * consumer while it is still being received. Reading stops as soon as the
+	 * consumer does not want further lines. The content is decoded in the
+	 * charset the page declares, see {@link PageReader}. If a cache is set, a cached
+	 * version of the page gets revalidated with a conditional request and is
+	 * used if the server confirms it as not modified. The cache stores pages
+	 * completely, with a cache the whole page is therefore received and
+	 * buffered before it is fed to the consumer.
+	 * 
+	 * @param path
+	 *            Path to the web page
+	 * @param consumer
+	 *            Consumer to feed the lines to
+	 * @throws IOException
+	 *             If an I/O-Exception occurs or the server answers with an
+	 *             error
+	 */
+	public void fetchLines(final String path, final LineConsumer consumer) throws IOException {
+		final HttpCache currentCache = this.cache;
+		if (currentCache == null) {
+			final HttpResponse<InputStream> response = send(path, null);
+			PageReader.readLines(response.body(), getContentType(response), consumer);
+			return;
+		}
+
+		// Cached pages are stored completely, they are not read partially
+		final CachedPage cached = currentCache.load(path);
+		final HttpResponse<InputStream> response = send(path, cached);
+		if (cached != null && response.statusCode() == STATUS_NOT_MODIFIED) {
+			response.body().close();
+			currentCache.markNotModified(cached);
+			PageReader.readLines(new ByteArrayInputStream(cached.getBody()), cached.getContentType(), consumer);
+			return;
+		}
+
+		final byte[] body;
+		try (final InputStream stream = response.body()) {
+			body = stream.readAllBytes();
+		}
+		final String contentType = getContentType(response);
+		final String eTag = response.headers().firstValue("ETag").orElse(null);
+		final String lastModified = response.headers().firstValue("Last-Modified").orElse(null);
+		currentCache.store(path, new CachedPage(body, contentType, eTag, lastModified));
+		PageReader.readLines(new ByteArrayInputStream(body), contentType, consumer);
+	}
+
+	/**
+	 * Gets the cache that is used to revalidate pages.
+	 * 
+	 * @return The cache or <tt>null</tt> if pages are not cached
+	 */
+	public HttpCache getCache() {
+		return this.cache;
+	}
+
+	/**
+	 * Gets the limiter for the rate of all requests.
+	 * 
+	 * @return The rate limiter
+	 */
+	public RateLimiter getRateLimiter() {
+		return this.limiter;
+	}
+
+	/**
+	 * Sets the cache that is used to revalidate pages.
+	 * 
+	 * @param thatCache
+	 *            Cache to use or <tt>null</tt> to not cache pages
+	 */
+	public void setCache(final HttpCache thatCache) {
+		this.cache = thatCache;
+	}
+
+	/**
+	 * Sends a request for the given web page and checks the status of the
+	 * response. Requests are throttled by the rate limiter, rejected due to
+	 * overload they get retried a few times.
+	 * 
+	 * @param path
+	 *            Path to the web page
+	 * @param cached
+	 *            Cached version of the page whose validators are sent along
+	 *            or <tt>null</tt> for an unconditional request
+	 * @return The response with a body that is not consumed yet
+	 * @throws IOException
+	 *             If an I/O-Exception occurs or the server answers with an
+	 *             error
+	 */
+	private HttpResponse<InputStream> send(final String path, final CachedPage cached) throws IOException {
+		final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(path))
+				.timeout(Duration.ofSeconds(REQUEST_TIMEOUT)).GET();
+		if (cached != null) {
+			if (cached.getETag() != null) {
+				builder.header("If-None-Match", cached.getETag());
+			}
+			if (cached.getLastModified() != null) {
+				builder.header("If-Modified-Since", cached.getLastModified());
+			}
+		}
+		final HttpRequest request = builder.build();
+
+		HttpResponse<InputStream> response;
+		int status;
+		int attempt = 0;
+		try {
+			do {
+				attempt++;
+				this.limiter.acquire();
+				final long start = System.nanoTime();
+				response = this.client.send(request, BodyHandlers.ofInputStream());
+				status = response.statusCode();
+				this.limiter.reportResponse(status, System.nanoTime() - start, parseRetryAfter(response));
+
+				if (RateLimiter.isOverloaded(status) && attempt < MAX_ATTEMPTS) {
+					response.body().close();
+				} else {
+					break;
+				}
+			} while (true);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while fetching: " + path);
+		}
+
+		if (status >= STATUS_ERROR_MIN) {
+			response.body().close();
+			if (status == STATUS_NOT_FOUND) {
+				throw new FileNotFoundException(path);
+			}
+			throw new IOException("Server returned HTTP response code: " + status + " for URL: " + path);
+		}
+		return response;
+	}
+}
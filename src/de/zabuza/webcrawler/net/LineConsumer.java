@@ -0,0 +1,22 @@
+package de.zabuza.webcrawler.net;
+
+/**
+ * Consumer that gets fed the lines of a web page one after another while the
+ * page is still being read. The consumer decides how much of the page gets
+ * read, the remaining lines are not buffered unless the whole page needs to be
+ * stored, like for a cache or an archive.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface LineConsumer {
+	/**
+	 * Consumes the next line of the page.
+	 * 
+	 * @param line
+	 *            The next line of the page
+	 * @return <tt>True</tt> if the consumer wants the following lines too,
+	 *         <tt>false</tt> if reading the page can be stopped
+	 */
+	boolean accept(String line);
+}
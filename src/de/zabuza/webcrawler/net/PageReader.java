@@ -0,0 +1,335 @@
+package de.zabuza.webcrawler.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Reads the body of a web page line by line in the charset the page declares.
+ * The charset is taken from the <tt>Content-Type</tt> header, else from a
+ * <tt>meta</tt> tag at the beginning of the page, else the platform default
+ * is used. Readers keep their decoders and buffers and are pooled, reading a
+ * page therefore only allocates the lines themselves.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PageReader {
+	/**
+	 * Size of the byte and char buffers of a reader.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+	/**
+	 * Name of the parameter and attribute that declares the charset.
+	 */
+	private static final String CHARSET_PARAMETER = "charset=";
+	/**
+	 * Readers that are currently not in use.
+	 */
+	private static final Queue<PageReader> POOL = new ConcurrentLinkedQueue<>();
+	/**
+	 * Amount of bytes at the beginning of a page that get searched for a
+	 * charset declaration.
+	 */
+	private static final int SNIFF_LIMIT = 1024;
+
+	/**
+	 * Gets the charset declared by the value of a <tt>Content-Type</tt>
+	 * header.
+	 * 
+	 * @param contentType
+	 *            Value of the header or <tt>null</tt> if there is none
+	 * @return The declared charset or <tt>null</tt> if none or an unsupported
+	 *         one is declared
+	 */
+	public static Charset getDeclaredCharset(final String contentType) {
+		if (contentType == null) {
+			return null;
+		}
+		for (final String parameter : contentType.split(";")) {
+			final String trimmed = parameter.trim();
+			if (trimmed.regionMatches(true, 0, CHARSET_PARAMETER, 0, CHARSET_PARAMETER.length())) {
+				return toCharset(trimmed.substring(CHARSET_PARAMETER.length()));
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads the given stream line by line and feeds the lines to the given
+	 * consumer until it does not want further lines. Lines are separated like
+	 * {@link java.io.BufferedReader#readLine()} does. The stream gets closed
+	 * afterwards.
+	 * 
+	 * @param stream
+	 *            Stream to read
+	 * @param contentType
+	 *            Value of the <tt>Content-Type</tt> header of the page or
+	 *            <tt>null</tt> if there is none
+	 * @param consumer
+	 *            Consumer to feed the lines to
+	 * @throws IOException
+	 *             If an I/O-Exception occurs
+	 */
+	public static void readLines(final InputStream stream, final String contentType, final LineConsumer consumer)
+			throws IOException {
+		PageReader reader = POOL.poll();
+		if (reader == null) {
+			reader = new PageReader();
+		}
+		try (final InputStream input = stream) {
+			reader.read(input, contentType, consumer);
+		} finally {
+			reader.line.setLength(0);
+			POOL.offer(reader);
+		}
+	}
+
+	/**
+	 * Gets the charset declared in the given beginning of a page by a
+	 * <tt>meta</tt> tag.
+	 * 
+	 * @param head
+	 *            Buffer that contains the beginning of the page from index
+	 *            <tt>0</tt> to its position
+	 * @return The declared charset or <tt>null</tt> if none or an unsupported
+	 *         one is declared
+	 */
+	private static Charset sniffCharset(final ByteBuffer head) {
+		// Declarations only consist of ASCII, which every supported charset
+		// shares
+		final String text = new String(head.array(), 0, head.position(), StandardCharsets.ISO_8859_1)
+				.toLowerCase(Locale.ROOT);
+		final int metaIndex = text.indexOf("<meta");
+		if (metaIndex == -1) {
+			return null;
+		}
+		final int parameterIndex = text.indexOf(CHARSET_PARAMETER, metaIndex);
+		if (parameterIndex == -1) {
+			return null;
+		}
+		return toCharset(text.substring(parameterIndex + CHARSET_PARAMETER.length()));
+	}
+
+	/**
+	 * Gets the charset with the name at the beginning of the given text. The
+	 * name may be quoted and ends at the first char that can not be part of
+	 * it.
+	 * 
+	 * @param text
+	 *            Text that starts with the name of the charset
+	 * @return The charset or <tt>null</tt> if it is not supported
+	 */
+	private static Charset toCharset(final String text) {
+		int begin = 0;
+		while (begin < text.length() && (text.charAt(begin) == '"' || text.charAt(begin) == '\'')) {
+			begin++;
+		}
+		int end = begin;
+		while (end < text.length()) {
+			final char c = text.charAt(end);
+			if (!Character.isLetterOrDigit(c) && c != '-' && c != '_' && c != '.' && c != ':') {
+				break;
+			}
+			end++;
+		}
+		if (begin == end) {
+			return null;
+		}
+		try {
+			final String name = text.substring(begin, end);
+			if (Charset.isSupported(name)) {
+				return Charset.forName(name);
+			}
+		} catch (final IllegalCharsetNameException e) {
+			// Treated like an unsupported charset
+		}
+		return null;
+	}
+
+	/**
+	 * Buffer for the raw bytes of the page.
+	 */
+	private final ByteBuffer bytes;
+	/**
+	 * Buffer for the decoded chars of the page.
+	 */
+	private final CharBuffer chars;
+	/**
+	 * Decoders of this reader by their charset.
+	 */
+	private final Map<Charset, CharsetDecoder> decoders;
+	/**
+	 * The line that is currently being read.
+	 */
+	private final StringBuilder line;
+	/**
+	 * Whether the last char was a carriage return, a following line feed then
+	 * belongs to the same line separator.
+	 */
+	private boolean skipLineFeed;
+
+	/**
+	 * Creates a new reader with empty buffers.
+	 */
+	private PageReader() {
+		this.bytes = ByteBuffer.allocate(BUFFER_SIZE);
+		this.chars = CharBuffer.allocate(BUFFER_SIZE);
+		this.decoders = new HashMap<>();
+		this.line = new StringBuilder();
+		this.skipLineFeed = false;
+	}
+
+	/**
+	 * Feeds the decoded chars to the consumer, line by line. The char buffer
+	 * is empty afterwards.
+	 * 
+	 * @param consumer
+	 *            Consumer to feed the lines to
+	 * @return <tt>True</tt> if the consumer wants further lines,
+	 *         <tt>false</tt> if not
+	 */
+	private boolean drain(final LineConsumer consumer) {
+		this.chars.flip();
+		try {
+			while (this.chars.hasRemaining()) {
+				final char c = this.chars.get();
+				if (this.skipLineFeed) {
+					this.skipLineFeed = false;
+					if (c == '\n') {
+						continue;
+					}
+				}
+				if (c == '\n' || c == '\r') {
+					this.skipLineFeed = c == '\r';
+					final String completeLine = this.line.toString();
+					this.line.setLength(0);
+					if (!consumer.accept(completeLine)) {
+						return false;
+					}
+				} else {
+					this.line.append(c);
+				}
+			}
+			return true;
+		} finally {
+			this.chars.clear();
+		}
+	}
+
+	/**
+	 * Gets the decoder of this reader for the given charset in its initial
+	 * state.
+	 * 
+	 * @param charset
+	 *            Charset to decode
+	 * @return The decoder for the charset
+	 */
+	private CharsetDecoder getDecoder(final Charset charset) {
+		CharsetDecoder decoder = this.decoders.get(charset);
+		if (decoder == null) {
+			decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			this.decoders.put(charset, decoder);
+		} else {
+			decoder.reset();
+		}
+		return decoder;
+	}
+
+	/**
+	 * Reads the given stream line by line and feeds the lines to the given
+	 * consumer until it does not want further lines.
+	 * 
+	 * @param stream
+	 *            Stream to read
+	 * @param contentType
+	 *            Value of the <tt>Content-Type</tt> header of the page or
+	 *            <tt>null</tt> if there is none
+	 * @param consumer
+	 *            Consumer to feed the lines to
+	 * @throws IOException
+	 *             If an I/O-Exception occurs
+	 */
+	private void read(final InputStream stream, final String contentType, final LineConsumer consumer)
+			throws IOException {
+		this.bytes.clear();
+		this.chars.clear();
+		this.line.setLength(0);
+		this.skipLineFeed = false;
+
+		// Buffer the beginning of the page to search it for a declaration
+		boolean endOfInput = false;
+		while (!endOfInput && this.bytes.position() < SNIFF_LIMIT) {
+			endOfInput = !readMore(stream);
+		}
+		Charset charset = getDeclaredCharset(contentType);
+		if (charset == null) {
+			charset = sniffCharset(this.bytes);
+		}
+		if (charset == null) {
+			charset = Charset.defaultCharset();
+		}
+		final CharsetDecoder decoder = getDecoder(charset);
+
+		this.bytes.flip();
+		while (true) {
+			final CoderResult result = decoder.decode(this.bytes, this.chars, endOfInput);
+			if (!drain(consumer)) {
+				return;
+			}
+			if (result.isOverflow()) {
+				continue;
+			}
+			if (endOfInput) {
+				break;
+			}
+			this.bytes.compact();
+			endOfInput = !readMore(stream);
+			this.bytes.flip();
+		}
+		while (decoder.flush(this.chars).isOverflow()) {
+			if (!drain(consumer)) {
+				return;
+			}
+		}
+		if (!drain(consumer)) {
+			return;
+		}
+		if (this.line.length() > 0) {
+			consumer.accept(this.line.toString());
+		}
+	}
+
+	/**
+	 * Reads more bytes of the stream into the byte buffer, which has to be in
+	 * write mode and must not be full.
+	 * 
+	 * @param stream
+	 *            Stream to read
+	 * @return <tt>True</tt> if bytes were read, <tt>false</tt> if the end of
+	 *         the stream was reached
+	 * @throws IOException
+	 *             If an I/O-Exception occurs
+	 */
+	private boolean readMore(final InputStream stream) throws IOException {
+		final int read = stream.read(this.bytes.array(), this.bytes.position(), this.bytes.remaining());
+		if (read == -1) {
+			return false;
+		}
+		this.bytes.position(this.bytes.position() + read);
+		return true;
+	}
+}
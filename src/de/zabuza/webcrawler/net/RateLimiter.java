@@ -0,0 +1,238 @@
+package de.zabuza.webcrawler.net;
+
+/**
+ * Token bucket that limits the rate of requests sent to the server. The rate
+ * adapts to the server: it is lowered on slow responses or if the server
+ * signals overload and slowly raised back to the configured ceiling
+ * otherwise. The limiter also records the rate that was actually achieved.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class RateLimiter {
+	/**
+	 * Factor the rate gets multiplied with if the server signals overload.
+	 */
+	private static final double BACKOFF_OVERLOAD = 0.5;
+	/**
+	 * Factor the rate gets multiplied with on a slow response.
+	 */
+	private static final double BACKOFF_SLOW = 0.75;
+	/**
+	 * Amount of requests per second the rate grows by on a fast response.
+	 */
+	private static final double INCREASE_STEP = 0.1;
+	/**
+	 * Lowest rate the limiter backs off to, in requests per second.
+	 */
+	private static final double MIN_RATE = 0.1;
+	/**
+	 * Amount of nanoseconds in a millisecond.
+	 */
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+	/**
+	 * Amount of nanoseconds in a second.
+	 */
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+	/**
+	 * Response time in milliseconds above which a response counts as slow.
+	 */
+	private static final long SLOW_RESPONSE = 2_000L;
+	/**
+	 * Status code of a response that signals the server is unavailable.
+	 */
+	private static final int STATUS_SERVICE_UNAVAILABLE = 503;
+	/**
+	 * Status code of a response that signals too many requests.
+	 */
+	private static final int STATUS_TOO_MANY_REQUESTS = 429;
+
+	/**
+	 * Checks whether the given status code signals that the server is
+	 * overloaded and the request should be retried later.
+	 * 
+	 * @param status
+	 *            Status code of the response
+	 * @return <tt>True</tt> if the server signals overload
+	 */
+	public static boolean isOverloaded(final int status) {
+		return status == STATUS_TOO_MANY_REQUESTS || status == STATUS_SERVICE_UNAVAILABLE;
+	}
+
+	/**
+	 * Nano time of the first granted request or <tt>0</tt> if there was none.
+	 */
+	private long firstRequest;
+	/**
+	 * Nano time of the last granted request.
+	 */
+	private long lastRequest;
+	/**
+	 * Nano time of the last refill of the bucket.
+	 */
+	private long lastRefill;
+	/**
+	 * Ceiling of the rate in requests per second.
+	 */
+	private double maxRate;
+	/**
+	 * Amount of responses that signaled overload.
+	 */
+	private long overloadedResponses;
+	/**
+	 * Nano time until no request gets granted, used to honour a retry delay
+	 * requested by the server.
+	 */
+	private long pausedUntil;
+	/**
+	 * Current rate in requests per second.
+	 */
+	private double rate;
+	/**
+	 * Amount of granted requests.
+	 */
+	private long requests;
+	/**
+	 * Amount of slow responses.
+	 */
+	private long slowResponses;
+	/**
+	 * Available tokens, negative if tokens are reserved by waiting requests.
+	 */
+	private double tokens;
+
+	/**
+	 * Creates a new rate limiter.
+	 * 
+	 * @param thatMaxRate
+	 *            Ceiling of the rate in requests per second
+	 */
+	public RateLimiter(final double thatMaxRate) {
+		setMaxRate(thatMaxRate);
+		this.rate = this.maxRate;
+		this.tokens = 1.0;
+		this.lastRefill = System.nanoTime();
+		this.pausedUntil = this.lastRefill;
+	}
+
+	/**
+	 * Waits until the next request may be sent.
+	 * 
+	 * @throws InterruptedException
+	 *             If the thread got interrupted while waiting
+	 */
+	public void acquire() throws InterruptedException {
+		final long waitNanos;
+		synchronized (this) {
+			final long now = System.nanoTime();
+			refill(now);
+			// Reserve a token, a negative balance is paid by waiting
+			this.tokens -= 1.0;
+			long wait = 0L;
+			if (this.tokens < 0.0) {
+				wait = (long) (-this.tokens / this.rate * NANOS_PER_SECOND);
+			}
+			wait = Math.max(wait, this.pausedUntil - now);
+
+			this.requests++;
+			if (this.firstRequest == 0L) {
+				this.firstRequest = now + wait;
+			}
+			this.lastRequest = Math.max(this.lastRequest, now + wait);
+			waitNanos = wait;
+		}
+
+		if (waitNanos > 0L) {
+			Thread.sleep(waitNanos / NANOS_PER_MILLI, (int) (waitNanos % NANOS_PER_MILLI));
+		}
+	}
+
+	/**
+	 * Gets the rate that was achieved over all granted requests.
+	 * 
+	 * @return Achieved rate in requests per second or <tt>0</tt> if less than
+	 *         two requests were granted
+	 */
+	public synchronized double getAchievedRate() {
+		final long duration = this.lastRequest - this.firstRequest;
+		if (this.requests < 2 || duration <= 0L) {
+			return 0.0;
+		}
+		return (this.requests - 1) / (duration / NANOS_PER_SECOND);
+	}
+
+	/**
+	 * Gets the current rate the limiter grants requests with.
+	 * 
+	 * @return Current rate in requests per second
+	 */
+	public synchronized double getRate() {
+		return this.rate;
+	}
+
+	/**
+	 * Reports the response of a granted request so that the rate can adapt.
+	 * 
+	 * @param status
+	 *            Status code of the response
+	 * @param responseNanos
+	 *            Time in nanoseconds the server needed to respond
+	 * @param retryAfter
+	 *            Seconds the server asks to wait before the next request or
+	 *            <tt>0</tt> if not given
+	 */
+	public synchronized void reportResponse(final int status, final long responseNanos, final long retryAfter) {
+		final long now = System.nanoTime();
+		refill(now);
+
+		if (isOverloaded(status)) {
+			this.overloadedResponses++;
+			this.rate = Math.max(MIN_RATE, this.rate * BACKOFF_OVERLOAD);
+			if (retryAfter > 0L) {
+				this.pausedUntil = Math.max(this.pausedUntil, now + (long) (retryAfter * NANOS_PER_SECOND));
+			}
+		} else if (responseNanos > SLOW_RESPONSE * NANOS_PER_MILLI) {
+			this.slowResponses++;
+			this.rate = Math.max(MIN_RATE, this.rate * BACKOFF_SLOW);
+		} else {
+			this.rate = Math.min(this.maxRate, this.rate + INCREASE_STEP);
+		}
+	}
+
+	/**
+	 * Sets the ceiling of the rate. The current rate is lowered to the ceiling
+	 * if needed.
+	 * 
+	 * @param thatMaxRate
+	 *            Ceiling of the rate in requests per second
+	 */
+	public synchronized void setMaxRate(final double thatMaxRate) {
+		if (!(thatMaxRate >= MIN_RATE)) {
+			throw new IllegalArgumentException("Rate must be at least " + MIN_RATE + " requests per second: "
+					+ thatMaxRate);
+		}
+		this.maxRate = thatMaxRate;
+		this.rate = Math.min(this.rate, this.maxRate);
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format("%d requests, achieved %.2f req/s, current %.2f req/s of max %.2f req/s, "
+				+ "%d slow and %d overloaded responses", Long.valueOf(this.requests),
+				Double.valueOf(getAchievedRate()), Double.valueOf(this.rate), Double.valueOf(this.maxRate),
+				Long.valueOf(this.slowResponses), Long.valueOf(this.overloadedResponses));
+	}
+
+	/**
+	 * Refills the bucket with the tokens earned since the last refill. The
+	 * bucket holds at most the tokens of one second.
+	 * 
+	 * @param now
+	 *            Current nano time
+	 */
+	private void refill(final long now) {
+		final double earned = (now - this.lastRefill) / NANOS_PER_SECOND * this.rate;
+		this.tokens = Math.min(Math.max(1.0, this.rate), this.tokens + earned);
+		this.lastRefill = now;
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * This is the package of web crawlers network access.
+ */
+package de.zabuza.webcrawler.net;
\ No newline at end of file
@@ -0,0 +1,312 @@
+package de.zabuza.webcrawler.parse;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import de.zabuza.webcrawler.util.CrawlerUtil;
+import de.zabuza.webcrawler.util.DataWriter;
+
+/**
+ * Order in which the rules of a parser get tried, learned from the rules that
+ * won for the parsed inputs. The rules have a priority, the first rule that
+ * matches an input determines the result. While learning, the parser tries
+ * all rules and records which of them matched. Rules that matched the same
+ * input overlap and keep their relative order, all other rules get ordered by
+ * the amount of inputs they won. The parser tries rules in this order until
+ * the first one matches. Inputs may contain overlaps that were not observed
+ * while learning, so if the matching rule is not the one with the highest
+ * priority among the rules not tried yet, the parser still has to check the
+ * untried rules with higher priority before accepting the result. The order
+ * only changes how fast a parser finds the result, never the result itself.
+ * The learned order can be saved to a file and loaded again in a later run,
+ * it is only loaded for the same rules.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class AdaptiveRuleOrder {
+	/**
+	 * Version of the file format, written in front of the statistics.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	/**
+	 * Fingerprint of the rules, identifies the rules a saved order belongs
+	 * to.
+	 */
+	private final int fingerprint;
+	/**
+	 * Whether the parser currently records the rules that match.
+	 */
+	private volatile boolean learning;
+	/**
+	 * Indices of the rules in the order they get tried, replaced as a whole
+	 * on reordering and never modified.
+	 */
+	private volatile int[] order;
+	/**
+	 * Pairs of rules that matched the same input, per rule the set of rules
+	 * it overlaps with. Guarded by itself.
+	 */
+	private final BitSet[] overlaps;
+	/**
+	 * Amount of inputs each rule won.
+	 */
+	private final AtomicLongArray wins;
+
+	/**
+	 * Creates a new order that tries the given rules by their priority.
+	 * 
+	 * @param rules
+	 *            Regular expressions of the rules, ordered by priority
+	 */
+	public AdaptiveRuleOrder(final List<String> rules) {
+		this.fingerprint = rules.hashCode();
+		this.learning = false;
+		this.order = new int[rules.size()];
+		for (int i = 0; i < this.order.length; i++) {
+			this.order[i] = i;
+		}
+		this.overlaps = new BitSet[rules.size()];
+		for (int i = 0; i < this.overlaps.length; i++) {
+			this.overlaps[i] = new BitSet(rules.size());
+		}
+		this.wins = new AtomicLongArray(rules.size());
+	}
+
+	/**
+	 * Gets the amount of pairs of rules that were observed to overlap.
+	 * 
+	 * @return The amount of overlapping pairs
+	 */
+	public int getOverlaps() {
+		int pairs = 0;
+		synchronized (this.overlaps) {
+			for (final BitSet overlap : this.overlaps) {
+				pairs += overlap.cardinality();
+			}
+		}
+		return pairs / 2;
+	}
+
+	/**
+	 * Gets the amount of inputs the given rule won.
+	 * 
+	 * @param rule
+	 *            Index of the rule
+	 * @return The amount of won inputs
+	 */
+	public long getWins(final int rule) {
+		return this.wins.get(rule);
+	}
+
+	/**
+	 * Whether the parser currently records the rules that match, it then has
+	 * to try all rules and report them by {@link #record(BitSet)}.
+	 * 
+	 * @return <tt>True</tt> if the parser is learning, <tt>false</tt> if not
+	 */
+	public boolean isLearning() {
+		return this.learning;
+	}
+
+	/**
+	 * Loads the statistics of a file that was written by {@link #save(String)}
+	 * and reorders the rules by them. Nothing gets loaded if the file does
+	 * not exist, was written in an other format or for other rules.
+	 * 
+	 * @param path
+	 *            Path to the file
+	 * @throws IOException
+	 *             If an I/O-Exception occurs
+	 */
+	public void load(final String path) throws IOException {
+		final File file = new File(path);
+		if (!file.isFile()) {
+			return;
+		}
+		try (final DataInputStream input = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(file)))) {
+			if (input.readInt() != FORMAT_VERSION || input.readInt() != this.fingerprint
+					|| input.readInt() != this.wins.length()) {
+				return;
+			}
+			for (int i = 0; i < this.wins.length(); i++) {
+				this.wins.addAndGet(i, input.readLong());
+			}
+			synchronized (this.overlaps) {
+				for (int i = 0; i < this.overlaps.length; i++) {
+					final int size = input.readInt();
+					for (int j = 0; j < size; j++) {
+						final int other = input.readInt();
+						if (other < 0 || other >= this.overlaps.length) {
+							throw new IOException("Unknown rule in rule order file: " + path);
+						}
+						this.overlaps[i].set(other);
+					}
+				}
+			}
+		}
+		reorder();
+	}
+
+	/**
+	 * Records the rules that matched an input while learning. The first of
+	 * them won the input, all of them overlap with each other.
+	 * 
+	 * @param matched
+	 *            Indices of the rules that matched the input, must not be
+	 *            empty
+	 */
+	public void record(final BitSet matched) {
+		this.wins.incrementAndGet(matched.nextSetBit(0));
+		if (matched.cardinality() < 2) {
+			return;
+		}
+		synchronized (this.overlaps) {
+			for (int rule = matched.nextSetBit(0); rule != -1; rule = matched.nextSetBit(rule + 1)) {
+				this.overlaps[rule].or(matched);
+				this.overlaps[rule].clear(rule);
+			}
+		}
+	}
+
+	/**
+	 * Reorders the rules by the recorded statistics. Rules that won more
+	 * inputs come first, but never before a rule with higher priority they
+	 * overlap with. Rules that won equally many inputs keep their priority.
+	 */
+	public void reorder() {
+		final int size = this.wins.length();
+		final int[] nextOrder = new int[size];
+		final boolean[] placed = new boolean[size];
+		synchronized (this.overlaps) {
+			for (int i = 0; i < size; i++) {
+				// Pick the most winning rule whose overlapping rules with higher
+				// priority are already placed
+				int best = -1;
+				for (int rule = 0; rule < size; rule++) {
+					if (placed[rule] || !isReady(rule, placed)) {
+						continue;
+					}
+					if (best == -1 || this.wins.get(rule) > this.wins.get(best)) {
+						best = rule;
+					}
+				}
+				placed[best] = true;
+				nextOrder[i] = best;
+			}
+		}
+		this.order = nextOrder;
+	}
+
+	/**
+	 * Saves the statistics of this order to a file. The file gets replaced
+	 * atomically if the file system supports it.
+	 * 
+	 * @param path
+	 *            Path to the file
+	 * @throws IOException
+	 *             If an I/O-Exception occurs
+	 */
+	public void save(final String path) throws IOException {
+		CrawlerUtil.writeFileAtomically(new File(path), new DataWriter() {
+			@Override
+			public void write(final DataOutputStream output) throws IOException {
+				output.writeInt(FORMAT_VERSION);
+				output.writeInt(AdaptiveRuleOrder.this.fingerprint);
+				output.writeInt(AdaptiveRuleOrder.this.wins.length());
+				for (int i = 0; i < AdaptiveRuleOrder.this.wins.length(); i++) {
+					output.writeLong(AdaptiveRuleOrder.this.wins.get(i));
+				}
+				synchronized (AdaptiveRuleOrder.this.overlaps) {
+					for (final BitSet overlap : AdaptiveRuleOrder.this.overlaps) {
+						output.writeInt(overlap.cardinality());
+						for (int other = overlap.nextSetBit(0); other != -1; other = overlap.nextSetBit(other + 1)) {
+							output.writeInt(other);
+						}
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets whether the parser records the rules that match.
+	 * 
+	 * @param thatLearning
+	 *            <tt>True</tt> if the parser should learn, <tt>false</tt> if
+	 *            not
+	 */
+	public void setLearning(final boolean thatLearning) {
+		this.learning = thatLearning;
+	}
+
+	/**
+	 * Gets the amount of rules.
+	 * 
+	 * @return The amount of rules
+	 */
+	public int size() {
+		return this.wins.length();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final int[] currentOrder = this.order;
+		final StringBuilder text = new StringBuilder();
+		long inputs = 0;
+		for (int i = 0; i < currentOrder.length; i++) {
+			inputs += this.wins.get(currentOrder[i]);
+			if (i > 0) {
+				text.append(", ");
+			}
+			text.append(currentOrder[i]).append('=').append(this.wins.get(currentOrder[i]));
+		}
+		return inputs + " inputs won, " + getOverlaps() + " overlapping pairs, order [" + text + "]";
+	}
+
+	/**
+	 * Gets the indices of the rules in the order they should be tried. A rule
+	 * that matches only determines the result if no untried rule with higher
+	 * priority matches too. The array must not be modified, it gets replaced as a whole on reordering.
+	 * 
+	 * @return The indices of the rules in the order to try them
+	 */
+	int[] getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Whether all rules with higher priority than the given rule that overlap
+	 * with it are already placed. The caller has to hold the lock of
+	 * {@link #overlaps}.
+	 * 
+	 * @param rule
+	 *            Index of the rule
+	 * @param placed
+	 *            Whether the rule with the given index is already placed
+	 * @return <tt>True</tt> if the rule can be placed next, <tt>false</tt> if
+	 *         not
+	 */
+	private boolean isReady(final int rule, final boolean[] placed) {
+		final BitSet overlap = this.overlaps[rule];
+		for (int other = overlap.nextSetBit(0); other != -1 && other < rule; other = overlap.nextSetBit(other + 1)) {
+			if (!placed[other]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
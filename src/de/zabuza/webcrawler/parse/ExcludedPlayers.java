@@ -0,0 +1,103 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utility class that knows the players that are excluded from the status
+ * check against external data, for example banned players and guests that
+ * never appear there. The players are loaded once from the resource
+ * {@link #RESOURCE}, new players only need to be added there.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ExcludedPlayers {
+	/**
+	 * Name of the resource that contains the excluded players, one name per
+	 * line, encoded in UTF-8.
+	 */
+	public static final String RESOURCE = "excludedPlayers.csv";
+	/**
+	 * Amount of lookups that found an excluded player.
+	 */
+	private static final AtomicLong HITS = new AtomicLong();
+	/**
+	 * Amount of lookups in total.
+	 */
+	private static final AtomicLong LOOKUPS = new AtomicLong();
+	/**
+	 * Set of the names of the excluded players.
+	 */
+	private static final Set<String> PLAYERS = loadPlayers();
+
+	/**
+	 * Whether the given player is excluded. Names are matched exactly.
+	 * 
+	 * @param player
+	 *            Name of the player
+	 * @return <tt>True</tt> if the player is excluded, <tt>false</tt> if not
+	 */
+	public static boolean contains(final String player) {
+		LOOKUPS.incrementAndGet();
+		final boolean isExcluded = PLAYERS.contains(player);
+		if (isExcluded) {
+			HITS.incrementAndGet();
+		}
+		return isExcluded;
+	}
+
+	/**
+	 * Gets the amount of lookups that found an excluded player.
+	 * 
+	 * @return The amount of hits
+	 */
+	public static long getHits() {
+		return HITS.get();
+	}
+
+	/**
+	 * Gets the amount of lookups in total.
+	 * 
+	 * @return The amount of lookups
+	 */
+	public static long getLookups() {
+		return LOOKUPS.get();
+	}
+
+	/**
+	 * Gets a text that describes the lookups done so far.
+	 * 
+	 * @return A text that describes the lookups
+	 */
+	public static String getStatistics() {
+		return getHits() + " of " + getLookups() + " lookups excluded, " + size() + " players";
+	}
+
+	/**
+	 * Gets the amount of excluded players.
+	 * 
+	 * @return The amount of excluded players
+	 */
+	public static int size() {
+		return PLAYERS.size();
+	}
+
+	/**
+	 * Loads the excluded players from the resource.
+	 * 
+	 * @return The loaded players
+	 */
+	private static Set<String> loadPlayers() {
+		return Collections.unmodifiableSet(new HashSet<>(ResourceTable.readList(RESOURCE)));
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private ExcludedPlayers() {
+
+	}
+}
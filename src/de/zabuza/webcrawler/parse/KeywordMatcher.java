@@ -0,0 +1,261 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Matcher that finds all occurrences of a set of keywords in a text in a
+ * single pass, using the automaton of Aho and Corasick. The time to match a
+ * text only depends on its length and the amount of keywords found, not on
+ * the amount of keywords of the matcher.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class KeywordMatcher {
+	/**
+	 * Node of the automaton, which represents a prefix of a keyword.
+	 * 
+	 * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+	 *
+	 */
+	private static final class Node {
+		/**
+		 * Children of the node, indexed like {@link #keys}.
+		 */
+		private Node[] children;
+		/**
+		 * Node of the longest proper suffix of this prefix that is also a
+		 * prefix of a keyword, <tt>null</tt> for the root.
+		 */
+		private Node failure;
+		/**
+		 * Indices of the keywords that end at this node, including those
+		 * that are suffixes of this prefix.
+		 */
+		private int[] keywords;
+		/**
+		 * Sorted characters that lead to the children of the node.
+		 */
+		private char[] keys;
+
+		/**
+		 * Creates a new node without children.
+		 */
+		public Node() {
+			this.children = new Node[0];
+			this.failure = null;
+			this.keywords = new int[0];
+			this.keys = new char[0];
+		}
+
+		/**
+		 * Adds the given keywords to the keywords that end at this node.
+		 * 
+		 * @param thoseKeywords
+		 *            Indices of the keywords to add
+		 */
+		public void addKeywords(final int[] thoseKeywords) {
+			if (thoseKeywords.length == 0) {
+				return;
+			}
+			final int[] nextKeywords = Arrays.copyOf(this.keywords, this.keywords.length + thoseKeywords.length);
+			System.arraycopy(thoseKeywords, 0, nextKeywords, this.keywords.length, thoseKeywords.length);
+			this.keywords = nextKeywords;
+		}
+
+		/**
+		 * Gets the child the given character leads to.
+		 * 
+		 * @param key
+		 *            Character to follow
+		 * @return The child or <tt>null</tt> if there is none
+		 */
+		public Node getChild(final char key) {
+			final int index = Arrays.binarySearch(this.keys, key);
+			if (index < 0) {
+				return null;
+			}
+			return this.children[index];
+		}
+
+		/**
+		 * Gets the children of the node.
+		 * 
+		 * @return The children of the node
+		 */
+		public Node[] getChildren() {
+			return this.children;
+		}
+
+		/**
+		 * Gets the node of the longest proper suffix of this prefix that is
+		 * also a prefix of a keyword.
+		 * 
+		 * @return The failure node or <tt>null</tt> for the root
+		 */
+		public Node getFailure() {
+			return this.failure;
+		}
+
+		/**
+		 * Gets the characters that lead to the children of the node.
+		 * 
+		 * @return The sorted characters, indexed like {@link #getChildren()}
+		 */
+		public char[] getKeys() {
+			return this.keys;
+		}
+
+		/**
+		 * Gets the indices of the keywords that end at this node.
+		 * 
+		 * @return The indices of the keywords
+		 */
+		public int[] getKeywords() {
+			return this.keywords;
+		}
+
+		/**
+		 * Gets the child the given character leads to, creating it if it
+		 * does not exist.
+		 * 
+		 * @param key
+		 *            Character to follow
+		 * @return The child
+		 */
+		public Node getOrCreateChild(final char key) {
+			int index = Arrays.binarySearch(this.keys, key);
+			if (index < 0) {
+				index = -(index + 1);
+				final char[] nextKeys = new char[this.keys.length + 1];
+				final Node[] nextChildren = new Node[this.children.length + 1];
+				System.arraycopy(this.keys, 0, nextKeys, 0, index);
+				System.arraycopy(this.children, 0, nextChildren, 0, index);
+				nextKeys[index] = key;
+				nextChildren[index] = new Node();
+				System.arraycopy(this.keys, index, nextKeys, index + 1, this.keys.length - index);
+				System.arraycopy(this.children, index, nextChildren, index + 1, this.children.length - index);
+				this.keys = nextKeys;
+				this.children = nextChildren;
+			}
+			return this.children[index];
+		}
+
+		/**
+		 * Sets the node of the longest proper suffix of this prefix that is
+		 * also a prefix of a keyword.
+		 * 
+		 * @param thatFailure
+		 *            The failure node to set
+		 */
+		public void setFailure(final Node thatFailure) {
+			this.failure = thatFailure;
+		}
+	}
+
+	/**
+	 * Amount of keywords of the matcher.
+	 */
+	private final int keywordAmount;
+	/**
+	 * Root of the automaton, which represents the empty prefix.
+	 */
+	private final Node root;
+
+	/**
+	 * Creates a new matcher for the given keywords.
+	 * 
+	 * @param keywords
+	 *            Keywords to find, they are referred to by their index in the
+	 *            list
+	 */
+	public KeywordMatcher(final List<String> keywords) {
+		this.keywordAmount = keywords.size();
+		this.root = new Node();
+		for (int i = 0; i < keywords.size(); i++) {
+			final String keyword = keywords.get(i);
+			if (keyword.isEmpty()) {
+				throw new IllegalArgumentException("Keywords must not be empty.");
+			}
+			Node node = this.root;
+			for (int j = 0; j < keyword.length(); j++) {
+				node = node.getOrCreateChild(keyword.charAt(j));
+			}
+			node.addKeywords(new int[] { i });
+		}
+		linkFailures();
+	}
+
+	/**
+	 * Finds all keywords that occur in the given text.
+	 * 
+	 * @param text
+	 *            Text to search
+	 * @return Set of the indices of all keywords that occur in the text
+	 */
+	public BitSet findAll(final String text) {
+		final BitSet found = new BitSet(this.keywordAmount);
+		Node node = this.root;
+		for (int i = 0; i < text.length(); i++) {
+			final char c = text.charAt(i);
+			Node child = node.getChild(c);
+			while (child == null && node != this.root) {
+				node = node.getFailure();
+				child = node.getChild(c);
+			}
+			if (child != null) {
+				node = child;
+			}
+			for (final int keyword : node.getKeywords()) {
+				found.set(keyword);
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Gets the amount of keywords of the matcher.
+	 * 
+	 * @return The amount of keywords
+	 */
+	public int size() {
+		return this.keywordAmount;
+	}
+
+	/**
+	 * Links every node to its failure node and adds the keywords of the
+	 * failure node to it. Nodes are visited in breadth-first order, failure
+	 * nodes are therefore always complete when they are used.
+	 */
+	private void linkFailures() {
+		final Deque<Node> queue = new ArrayDeque<>();
+		for (final Node child : this.root.getChildren()) {
+			child.setFailure(this.root);
+			queue.add(child);
+		}
+		while (!queue.isEmpty()) {
+			final Node node = queue.poll();
+			final char[] keys = node.getKeys();
+			final Node[] children = node.getChildren();
+			for (int i = 0; i < children.length; i++) {
+				final Node child = children[i];
+				Node failure = node.getFailure();
+				Node next = failure.getChild(keys[i]);
+				while (next == null && failure != this.root) {
+					failure = failure.getFailure();
+					next = failure.getChild(keys[i]);
+				}
+				if (next == null) {
+					next = this.root;
+				}
+				child.setFailure(next);
+				child.addKeywords(next.getKeywords());
+				queue.add(child);
+			}
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Decoder that replaces HTML entities and wrongly decoded characters in lines
+ * of crawled pages. The sequences to replace are stored in a trie, a line
+ * gets rewritten in a single pass from left to right. If a line contains no
+ * sequence the line itself is returned and nothing gets allocated.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class LineDecoder {
+	/**
+	 * Node of the trie that stores the sequences to replace.
+	 * 
+	 * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+	 *
+	 */
+	private static final class Node {
+		/**
+		 * Children of the node, indexed like {@link #keys}.
+		 */
+		private Node[] children;
+		/**
+		 * Sorted characters that lead to the children of the node.
+		 */
+		private char[] keys;
+		/**
+		 * Replacement of the sequence that ends at this node or <tt>null</tt>
+		 * if no sequence ends here.
+		 */
+		private String replacement;
+
+		/**
+		 * Creates a new node without children.
+		 */
+		public Node() {
+			this.children = new Node[0];
+			this.keys = new char[0];
+			this.replacement = null;
+		}
+
+		/**
+		 * Gets the child the given character leads to.
+		 * 
+		 * @param key
+		 *            Character to follow
+		 * @return The child or <tt>null</tt> if there is none
+		 */
+		public Node getChild(final char key) {
+			final int index = Arrays.binarySearch(this.keys, key);
+			if (index < 0) {
+				return null;
+			}
+			return this.children[index];
+		}
+
+		/**
+		 * Gets the child the given character leads to, creating it if it
+		 * does not exist.
+		 * 
+		 * @param key
+		 *            Character to follow
+		 * @return The child
+		 */
+		public Node getOrCreateChild(final char key) {
+			int index = Arrays.binarySearch(this.keys, key);
+			if (index < 0) {
+				index = -(index + 1);
+				final char[] nextKeys = new char[this.keys.length + 1];
+				final Node[] nextChildren = new Node[this.children.length + 1];
+				System.arraycopy(this.keys, 0, nextKeys, 0, index);
+				System.arraycopy(this.children, 0, nextChildren, 0, index);
+				nextKeys[index] = key;
+				nextChildren[index] = new Node();
+				System.arraycopy(this.keys, index, nextKeys, index + 1, this.keys.length - index);
+				System.arraycopy(this.children, index, nextChildren, index + 1, this.children.length - index);
+				this.keys = nextKeys;
+				this.children = nextChildren;
+			}
+			return this.children[index];
+		}
+
+		/**
+		 * Gets the replacement of the sequence that ends at this node.
+		 * 
+		 * @return The replacement or <tt>null</tt> if no sequence ends here
+		 */
+		public String getReplacement() {
+			return this.replacement;
+		}
+
+		/**
+		 * Sets the replacement of the sequence that ends at this node.
+		 * 
+		 * @param thatReplacement
+		 *            The replacement to set
+		 */
+		public void setReplacement(final String thatReplacement) {
+			this.replacement = thatReplacement;
+		}
+	}
+
+	/**
+	 * Root of the trie that stores the sequences to replace.
+	 */
+	private final Node root;
+
+	/**
+	 * Creates a new decoder for the given sequences.
+	 * 
+	 * @param replacements
+	 *            Map of the sequences to replace to their replacements
+	 */
+	public LineDecoder(final Map<String, String> replacements) {
+		this.root = new Node();
+		for (final Entry<String, String> entry : replacements.entrySet()) {
+			final String sequence = entry.getKey();
+			if (sequence.isEmpty()) {
+				throw new IllegalArgumentException("The sequence to replace must not be empty.");
+			}
+			Node node = this.root;
+			for (int i = 0; i < sequence.length(); i++) {
+				node = node.getOrCreateChild(sequence.charAt(i));
+			}
+			node.setReplacement(entry.getValue());
+		}
+	}
+
+	/**
+	 * Decodes the given line by replacing all sequences of the decoder. If
+	 * sequences overlap the longest one starting left-most gets replaced.
+	 * 
+	 * @param line
+	 *            Line to decode
+	 * @return The decoded line, the given line itself if it contains no
+	 *         sequence
+	 */
+	public String decode(final String line) {
+		StringBuilder decoded = null;
+		int copiedUntil = 0;
+		int i = 0;
+		while (i < line.length()) {
+			Node node = this.root.getChild(line.charAt(i));
+			if (node == null) {
+				i++;
+				continue;
+			}
+
+			// Follow the trie to find the longest sequence starting here
+			String replacement = node.getReplacement();
+			int sequenceEnd = i + 1;
+			int j = i + 1;
+			while (j < line.length()) {
+				node = node.getChild(line.charAt(j));
+				if (node == null) {
+					break;
+				}
+				j++;
+				if (node.getReplacement() != null) {
+					replacement = node.getReplacement();
+					sequenceEnd = j;
+				}
+			}
+
+			if (replacement == null) {
+				i++;
+				continue;
+			}
+			if (decoded == null) {
+				decoded = new StringBuilder(line.length());
+			}
+			decoded.append(line, copiedUntil, i).append(replacement);
+			copiedUntil = sequenceEnd;
+			i = sequenceEnd;
+		}
+
+		if (decoded == null) {
+			return line;
+		}
+		return decoded.append(line, copiedUntil, line.length()).toString();
+	}
+}
@@ -0,0 +1,75 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Utility class that resolves aliases of players to the names the players are
+ * known by, for example misspellings in slot-lists. The aliases are loaded
+ * once from the resource {@link #RESOURCE}, new aliases only need to be added
+ * there. Aliases are matched exactly since some of them only differ in case
+ * from the name they resolve to.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class PlayerAliases {
+	/**
+	 * Name of the resource that contains the aliases, one entry of the form
+	 * <tt>alias;name</tt> per line, encoded in UTF-8.
+	 */
+	public static final String RESOURCE = "playerAliases.csv";
+	/**
+	 * Map of aliases to the names of the players.
+	 */
+	private static final Map<String, String> ALIASES = loadAliases();
+
+	/**
+	 * Resolves the given player to the name the player is known by.
+	 * 
+	 * @param player
+	 *            Name of the player as given in the slot-list
+	 * @return The name the player is known by, the given name if it is no
+	 *         alias
+	 */
+	public static String resolve(final String player) {
+		final String name = ALIASES.get(player);
+		if (name == null) {
+			return player;
+		}
+		return name;
+	}
+
+	/**
+	 * Gets the amount of known aliases.
+	 * 
+	 * @return The amount of known aliases
+	 */
+	public static int size() {
+		return ALIASES.size();
+	}
+
+	/**
+	 * Loads the aliases from the resource. If an alias occurs multiple times
+	 * the first entry wins.
+	 * 
+	 * @return The loaded aliases
+	 */
+	private static Map<String, String> loadAliases() {
+		final Map<String, String> aliases = new HashMap<>();
+		for (final String[] entry : ResourceTable.read(RESOURCE)) {
+			if (!aliases.containsKey(entry[0])) {
+				aliases.put(entry[0], entry[1]);
+			}
+		}
+		return Collections.unmodifiableMap(aliases);
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private PlayerAliases() {
+
+	}
+}
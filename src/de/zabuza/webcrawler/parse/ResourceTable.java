@@ -0,0 +1,101 @@
+package de.zabuza.webcrawler.parse;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class that reads the tables the parsers load from resources. A
+ * table has one entry of the form <tt>key;value</tt> per line, a list has one
+ * entry per line. Both are encoded in UTF-8.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+final class ResourceTable {
+	/**
+	 * Separator between the key and the value of an entry.
+	 */
+	public static final String SEPARATOR = ";";
+
+	/**
+	 * Reads the entries of the table in the resource with the given name,
+	 * relative to this package. Lines without separator are skipped.
+	 * 
+	 * @param resource
+	 *            Name of the resource
+	 * @return The entries in the order of the table, each as array of key and
+	 *         value
+	 * @throws IllegalStateException
+	 *             If the resource is missing or could not be read
+	 */
+	public static List<String[]> read(final String resource) {
+		final List<String[]> entries = new ArrayList<>();
+		for (final String line : readList(resource)) {
+			final String[] entry = split(line);
+			if (entry != null) {
+				entries.add(entry);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Reads the entries of the list in the resource with the given name,
+	 * relative to this package. Empty lines are skipped.
+	 * 
+	 * @param resource
+	 *            Name of the resource
+	 * @return The entries in the order of the list
+	 * @throws IllegalStateException
+	 *             If the resource is missing or could not be read
+	 */
+	public static List<String> readList(final String resource) {
+		final InputStream stream = ResourceTable.class.getResourceAsStream(resource);
+		if (stream == null) {
+			throw new IllegalStateException("Missing resource table: " + resource);
+		}
+
+		final List<String> entries = new ArrayList<>();
+		try (final BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+			String line = reader.readLine();
+			while (line != null) {
+				if (!line.isEmpty()) {
+					entries.add(line);
+				}
+				line = reader.readLine();
+			}
+		} catch (final IOException e) {
+			throw new IllegalStateException("Resource table could not be read: " + resource, e);
+		}
+		return entries;
+	}
+
+	/**
+	 * Splits a line of a table into key and value at the last separator, the
+	 * key may thus contain the separator itself.
+	 * 
+	 * @param line
+	 *            Line to split
+	 * @return The entry as array of key and value or <tt>null</tt> if the line
+	 *         has no separator
+	 */
+	public static String[] split(final String line) {
+		final int separatorIndex = line.lastIndexOf(SEPARATOR);
+		if (separatorIndex == -1) {
+			return null;
+		}
+		return new String[] { line.substring(0, separatorIndex), line.substring(separatorIndex + SEPARATOR.length()) };
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private ResourceTable() {
+
+	}
+}
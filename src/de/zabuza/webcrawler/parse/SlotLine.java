@@ -0,0 +1,60 @@
+package de.zabuza.webcrawler.parse;
+
+/**
+ * Data container for a line of a slot-list. Stores the raw texts of the key,
+ * the slot and the player as they were matched.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SlotLine {
+	/**
+	 * Text of the key, the number of the slot.
+	 */
+	private final String keyText;
+	/**
+	 * Text of the player that occupies the slot.
+	 */
+	private final String player;
+	/**
+	 * Text of the slot.
+	 */
+	private final String slotText;
+
+	/**
+	 * Creates a new data container for a line of a slot-list.
+	 * 
+	 * @param thatKeyText
+	 *            Text of the key, the number of the slot
+	 * @param thatSlotText
+	 *            Text of the slot
+	 * @param thatPlayer
+	 *            Text of the player that occupies the slot
+	 */
+	public SlotLine(final String thatKeyText, final String thatSlotText, final String thatPlayer) {
+		this.keyText = thatKeyText;
+		this.slotText = thatSlotText;
+		this.player = thatPlayer;
+	}
+
+	/**
+	 * @return the keyText
+	 */
+	public String getKeyText() {
+		return this.keyText;
+	}
+
+	/**
+	 * @return the player
+	 */
+	public String getPlayer() {
+		return this.player;
+	}
+
+	/**
+	 * @return the slotText
+	 */
+	public String getSlotText() {
+		return this.slotText;
+	}
+}
@@ -0,0 +1,194 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matcher that combines the rules of the slot-line grammar into a single
+ * pattern. Every rule becomes an alternative wrapped in a named group, the
+ * group that participated in a match tells which rule fired. A line gets
+ * scanned once, the pattern is only tried at the positions where a slot line
+ * can start. The result is the same as applying the rules one after another
+ * and taking the first rule that matches anywhere in the line. The
+ * alternatives may be ordered differently than the rules. At a position the
+ * alternation then prefers the earlier alternative, rules with higher priority
+ * that could have been skipped this way are checked on their own before the
+ * result is accepted.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SlotLineMatcher {
+	/**
+	 * Prefix of the key in a line of a slot-list, every rule requires it
+	 * followed by a digit.
+	 */
+	private static final char KEY_PREFIX = '#';
+	/**
+	 * Prefix of the names of the groups that wrap the alternatives.
+	 */
+	private static final String RULE_GROUP_PREFIX = "rule";
+	/**
+	 * Start of the optional color tag in front of the key, the only other
+	 * character a slot line can start with.
+	 */
+	private static final char TAG_START = '<';
+
+	/**
+	 * Gets the index of the next key prefix followed by a digit, starting the
+	 * search at the given index.
+	 * 
+	 * @param line
+	 *            Line to search in
+	 * @param fromIndex
+	 *            Index to start the search from
+	 * @return The index of the next key prefix or <tt>-1</tt> if there is
+	 *         none
+	 */
+	private static int indexOfKey(final String line, final int fromIndex) {
+		int index = line.indexOf(KEY_PREFIX, fromIndex);
+		while (index != -1) {
+			final int digitIndex = index + 1;
+			if (digitIndex < line.length() && line.charAt(digitIndex) >= '0' && line.charAt(digitIndex) <= '9') {
+				return index;
+			}
+			index = line.indexOf(KEY_PREFIX, digitIndex);
+		}
+		return -1;
+	}
+
+	/**
+	 * Indices of the alternatives, indexed by rule.
+	 */
+	private final int[] alternatives;
+	/**
+	 * Numbers of the named groups that wrap the alternatives, indexed by
+	 * alternative.
+	 */
+	private final int[] groupOffsets;
+	/**
+	 * Indices of the rules in the order of the alternatives.
+	 */
+	private final int[] order;
+	/**
+	 * The combined pattern of all rules.
+	 */
+	private final Pattern pattern;
+	/**
+	 * Rules of the grammar, ordered by priority.
+	 */
+	private final List<SlotLineRule> rules;
+
+	/**
+	 * Creates a new matcher that combines the given rules in the given order.
+	 * 
+	 * @param thatRules
+	 *            Rules of the grammar, ordered by priority
+	 * @param thatOrder
+	 *            Indices of the rules in the order they become alternatives
+	 */
+	public SlotLineMatcher(final List<SlotLineRule> thatRules, final int[] thatOrder) {
+		this.rules = thatRules;
+		this.order = thatOrder;
+		this.groupOffsets = new int[thatRules.size()];
+		this.alternatives = new int[thatRules.size()];
+
+		final StringBuilder regex = new StringBuilder();
+		int groupCount = 0;
+		for (int i = 0; i < thatOrder.length; i++) {
+			final SlotLineRule rule = thatRules.get(thatOrder[i]);
+			this.alternatives[thatOrder[i]] = i;
+			if (i > 0) {
+				regex.append('|');
+			}
+			regex.append("(?<").append(RULE_GROUP_PREFIX).append(i).append('>').append(rule.getRegex()).append(')');
+
+			groupCount++;
+			this.groupOffsets[i] = groupCount;
+			groupCount += rule.getGroupCount();
+		}
+		this.pattern = Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+	}
+
+	/**
+	 * Gets the indices of the rules in the order of the alternatives.
+	 * 
+	 * @return The indices of the rules, must not be modified
+	 */
+	public int[] getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Matches the given line against the grammar. The rule with the highest
+	 * priority that matches anywhere in the line determines the result.
+	 * 
+	 * @param line
+	 *            Line to match
+	 * @return The matched slot line or <tt>null</tt> if no rule matches
+	 */
+	public SlotLine match(final String line) {
+		// Every rule needs a key, most lines can be rejected without scanning
+		if (indexOfKey(line, 0) == -1) {
+			return null;
+		}
+
+		final Matcher matcher = this.pattern.matcher(line);
+		int bestRule = this.rules.size();
+		SlotLine bestSlotLine = null;
+		// Alternatives behind a matched alternative were not tried at its
+		// position
+		int firstMatchedAlternative = this.rules.size();
+		// At a given position the alternation prefers the rule with the
+		// highest priority, a rule with higher priority may however still
+		// match further right
+		for (int start = 0; start < line.length() && bestRule > 0; start++) {
+			final char startChar = line.charAt(start);
+			if (startChar != KEY_PREFIX && startChar != TAG_START) {
+				continue;
+			}
+			matcher.region(start, line.length());
+			if (!matcher.lookingAt()) {
+				continue;
+			}
+			final int alternative = getMatchedAlternative(matcher);
+			firstMatchedAlternative = Math.min(firstMatchedAlternative, alternative);
+			final int rule = this.order[alternative];
+			if (rule < bestRule) {
+				bestRule = rule;
+				bestSlotLine = this.rules.get(rule).createSlotLine(matcher, this.groupOffsets[alternative]);
+			}
+		}
+
+		// Check the rules with higher priority that the alternation may have
+		// skipped, for the order by priority there are none
+		for (int rule = 0; rule < bestRule; rule++) {
+			if (this.alternatives[rule] > firstMatchedAlternative) {
+				final SlotLineRule skippedRule = this.rules.get(rule);
+				final Matcher skippedMatcher = skippedRule.getPattern().matcher(line);
+				if (skippedMatcher.find()) {
+					return skippedRule.createSlotLine(skippedMatcher, 0);
+				}
+			}
+		}
+		return bestSlotLine;
+	}
+
+	/**
+	 * Gets the index of the alternative that participated in the last match
+	 * of the given matcher.
+	 * 
+	 * @param matcher
+	 *            Matcher that found a match
+	 * @return The index of the matched alternative
+	 */
+	private int getMatchedAlternative(final Matcher matcher) {
+		for (int i = 0; i < this.groupOffsets.length; i++) {
+			if (matcher.start(this.groupOffsets[i]) != -1) {
+				return i;
+			}
+		}
+		throw new AssertionError();
+	}
+}
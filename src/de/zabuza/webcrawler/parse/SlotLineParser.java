@@ -0,0 +1,242 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class that parses the lines of slot-lists in event threads. The
+ * grammar consists of rule tables that are compiled once when the class is
+ * loaded, lines are then only matched against the precompiled patterns. The
+ * rules for slot lines are combined into a single pattern, whose alternatives
+ * follow the order of {@link #getRuleOrder()}.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SlotLineParser {
+	/**
+	 * Patterns of lines that indicate the start of a slot-list.
+	 */
+	private static final List<Pattern> LIST_START_PATTERNS = createListStartPatterns();
+	/**
+	 * Pattern for the text of a player.
+	 */
+	private static final String PLAYER_PATTERN = "[A-Za-z\\s\\-_0-9\\?\\.:]+";
+	/**
+	 * Pattern for the text of a slot.
+	 */
+	private static final String SLOT_PATTERN = "[A-Za-z\\s\\+\\-\\(\\)/\\.0-9\\?,\\*]+";
+	/**
+	 * Rules for lines of a slot-list, ordered by priority.
+	 */
+	private static final List<SlotLineRule> SLOT_LINE_RULES = createSlotLineRules();
+	/**
+	 * Order of the rules for lines of a slot-list.
+	 */
+	private static final AdaptiveRuleOrder RULE_ORDER = createRuleOrder();
+	/**
+	 * Matcher for lines of a slot-list that combines the rules of the grammar,
+	 * replaced if the order of the rules changes.
+	 */
+	private static volatile SlotLineMatcher slotLineMatcher = new SlotLineMatcher(SLOT_LINE_RULES,
+			RULE_ORDER.getOrder());
+
+	/**
+	 * Gets the order of the rules for lines of a slot-list. It can learn from
+	 * the parsed lines and be saved for later runs.
+	 * 
+	 * @return The order of the rules
+	 */
+	public static AdaptiveRuleOrder getRuleOrder() {
+		return RULE_ORDER;
+	}
+
+	/**
+	 * Whether the given line indicates the start of a slot-list.
+	 * 
+	 * @param line
+	 *            Line to check
+	 * @return <tt>True</tt> if the line indicates the start of a slot-list,
+	 *         <tt>false</tt> if not
+	 */
+	public static boolean isListStart(final String line) {
+		for (final Pattern pattern : LIST_START_PATTERNS) {
+			if (pattern.matcher(line).find()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Parses a line of a slot-list. The rule with the highest priority that
+	 * matches determines the result.
+	 * 
+	 * @param line
+	 *            Line to parse
+	 * @return The parsed slot line or <tt>null</tt> if the line is no line of
+	 *         a slot-list
+	 */
+	public static SlotLine parseSlotLine(final String line) {
+		if (RULE_ORDER.isLearning()) {
+			return parseSlotLineLearning(line);
+		}
+
+		SlotLineMatcher matcher = slotLineMatcher;
+		final int[] order = RULE_ORDER.getOrder();
+		if (matcher.getOrder() != order) {
+			matcher = new SlotLineMatcher(SLOT_LINE_RULES, order);
+			slotLineMatcher = matcher;
+		}
+		return matcher.match(line);
+	}
+
+	/**
+	 * Creates the patterns of lines that indicate the start of a slot-list.
+	 * 
+	 * @return The compiled patterns
+	 */
+	private static List<Pattern> createListStartPatterns() {
+		final List<Pattern> patterns = new ArrayList<>();
+		patterns.add(Pattern.compile("((Slotliste)|(Slotdatenbank)|(Slotlist)|"
+				+ "(Teilnehmer)|(Anmeldungen)|(Wer kommt\\?)|(Interessierte)|"
+				+ "(Dabei sind)|(Lernwillige Zglinge)|(Die Auserwhlten)|"
+				+ "(lotliste)|(Zeitslots)|(Slotierliste))[*:]?[\\s]?(&lt;){0,3}</",
+				Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("<strong>Teilnehmer -", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile(
+				"((Gruppe W - Die Herausforderer!)|(Slotliste - Server #1))[*:]?[\\s]?(&lt;){0,3}</",
+				Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("Wo:</strong> Brigade2010<br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("^Slot\u00B4s<br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile(" zu vergeben:<br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("^<strong>Gruppe DELTA:<br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("wer dabei ist.<br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("^1.0 Slotliste:<br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("^<i><strong>Godfather v3</strong></i><br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("^So, hier nun die freien Slots:<br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("Slotliste der Mission anzupassen...<br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("^Folgende Pltze sind verfgbar:<br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("^Missionsstart pnktlich 2000h<br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(
+				Pattern.compile("Flughafen einnehmen, Team Rot verteidigt!</strong><br />$", Pattern.CASE_INSENSITIVE));
+		patterns.add(Pattern.compile("<img src='http://i\\.imgur\\.com/zRMqnBu\\.png'.*/>.*<br />$",
+				Pattern.CASE_INSENSITIVE));
+		return Collections.unmodifiableList(patterns);
+	}
+
+	/**
+	 * Creates the order of the rules for lines of a slot-list.
+	 * 
+	 * @return The created order, initially by priority
+	 */
+	private static AdaptiveRuleOrder createRuleOrder() {
+		final List<String> regexes = new ArrayList<>(SLOT_LINE_RULES.size());
+		for (final SlotLineRule rule : SLOT_LINE_RULES) {
+			regexes.add(rule.getRegex());
+		}
+		return new AdaptiveRuleOrder(regexes);
+	}
+
+	/**
+	 * Creates the rules for lines of a slot-list, ordered by priority.
+	 * 
+	 * @return The compiled rules
+	 */
+	private static List<SlotLineRule> createSlotLineRules() {
+		final List<SlotLineRule> rules = new ArrayList<>();
+		rules.add(new SlotLineRule("#([\\d]+)[\\s]{1,3}-[\\s]{1,3}(<span style='color:#[a-fA-F0-9]{6}'>)?(" + SLOT_PATTERN
+				+ ")(</span>)?[\\s]?(</strong></span>|</span></strong>)?[\\s]{0,3}-"
+				+ "[\\s]{0,3}<strong><span style='color:#[a-fA-F0-9]{6}'>(<strong>)?[\\[]?W[\\]]?[\\s]?</span>"
+				+ "[\\s]?(</strong>[\\s]?<strong>)?(" + PLAYER_PATTERN
+				+ ")</strong>[\\s]*( - nicht besttigt)?<br[\\s]?/>", 1, 3, 8));
+		rules.add(new SlotLineRule("#([\\d]+)[\\s]{1,3}-[\\s]{1,3}(<span style='color:#[a-fA-F0-9]{6}'>)?(" + SLOT_PATTERN
+				+ ")(</span>)?[\\s]?(</strong></span>|</span></strong>)?[\\s]{0,3}-"
+				+ "[\\s]{0,3}<strong>[\\s]?(" + PLAYER_PATTERN
+				+ ")</strong>[\\s]*( - nicht besttigt)?<br[\\s]?/>", 1, 3, 6));
+		rules.add(new SlotLineRule("#([\\d]+)[\\s]{1,3}(<span style='color:#[a-fA-F0-9]{6}'>)?(" + SLOT_PATTERN
+				+ ")(</span>)?[\\s]?(</strong></span>|</span></strong>)?[\\s]{0,3}-"
+				+ "[\\s]{0,3}<strong><span style='color:#[a-fA-F0-9]{6}'>(<strong>)?[\\[]?W[\\]]?[\\s]?</span>"
+				+ "[\\s]?(</strong>[\\s]?<strong>)?(" + PLAYER_PATTERN
+				+ ")</strong>[\\s]*( - nicht besttigt)?<br[\\s]?/>", 1, 3, 8));
+		rules.add(new SlotLineRule("#([\\d]+)[\\s]{1,3}(<span style='color:#[a-fA-F0-9]{6}'>)?(" + SLOT_PATTERN
+				+ ")(</span>)?[\\s]?(</strong></span>|</span></strong>)?[\\s]{0,3}-"
+				+ "[\\s]{0,3}<strong>[\\s]?(" + PLAYER_PATTERN
+				+ ")</strong>[\\s]*( - nicht besttigt)?<br[\\s]?/>", 1, 3, 6));
+		rules.add(new SlotLineRule("#([\\d]+)[\\s]{1,3}(<span style='color:#[a-fA-F0-9]{6}'>)?(" + SLOT_PATTERN
+				+ ")(</span>)?[\\s]?(</strong></span>|</span></strong>)?[\\s]{0,3}[\\-]?"
+				+ "[\\s]{0,3}<strong>[\\s]?<span style='color:#[a-fA-F0-9]{6}'>(<strong>)?[\\[]?W[\\]]?[\\s]?</span>"
+				+ "[\\s]?(</strong>[\\s]?<strong>)?(" + PLAYER_PATTERN
+				+ ")</strong>[\\s]*( - nicht besttigt)?<br[\\s]?/>", 1, 3, 8));
+		rules.add(new SlotLineRule("#([\\d]+)[\\s]{1,3}(<span style='color:#[a-fA-F0-9]{6}'>)?(" + SLOT_PATTERN
+				+ ")(</span>)?[\\s]?(</strong></span>|</span></strong>)?[\\s]{0,3}[\\-]?"
+				+ "[\\s]{0,3}<strong>[\\s]?(" + PLAYER_PATTERN
+				+ ")</strong>[\\s]*( - nicht besttigt)?<br[\\s]?/>", 1, 3, 6));
+		rules.add(new SlotLineRule("#([\\d]+)[\\s]{1,3}-[\\s]{1,3}(<span style='color:#[a-fA-F0-9]{6}'>)?(" + SLOT_PATTERN
+				+ ")(</span>)?[\\s]?(</strong></span>|</span></strong>)?[\\s]{0,3}[\\-]?"
+				+ "[\\s]{0,3}<strong>[\\s]?(" + PLAYER_PATTERN
+				+ ")(</strong>)?[\\s]*( - nicht besttigt)?<br[\\s]?/>", 1, 3, 6));
+		rules.add(new SlotLineRule("#([\\d]+)[\\s]{1,3}(<span style='color:#[a-fA-F0-9]{6}'>)?(" + SLOT_PATTERN
+				+ ")(</span>)?[\\s]?(</strong></span>|</span></strong>)?[\\s]{0,3}[\\-]?"
+				+ "[\\s]{0,3}<strong>[\\s]?[\\[]?<span style='color:#[a-fA-F0-9]{6}'>(<strong>)?[\\[]?W[\\]]?</span>[\\]]?"
+				+ "[\\s]?(</strong>[\\s]?<strong>)?(" + PLAYER_PATTERN
+				+ ")(</strong>)?[\\s]*( - nicht besttigt)?<br[\\s]?/>", 1, 3, 8));
+		rules.add(new SlotLineRule("#([\\d]+)[\\s]{1,3}(<span style='color:#[a-fA-F0-9]{6}'>)?(" + SLOT_PATTERN
+				+ ")(</span>)?[\\s]?(</strong></span>|</span></strong>)?[\\s]{0,3}[\\-]?"
+				+ "[\\s]{0,3}<strong>[\\s]?(" + PLAYER_PATTERN
+				+ ")(</strong>)?[\\s]*( - nicht besttigt)?<br[\\s]?/>", 1, 3, 6));
+		rules.add(new SlotLineRule("#([\\d]+)[\\s]{0,3}-[\\s]{1,3}(<span style='color:#[a-fA-F0-9]{6}'>)?(" + SLOT_PATTERN
+				+ ")(</span>)?[\\s]?(</strong></span>|</span></strong>)?[\\s]{0,3}[\\-]?"
+				+ "[\\s]{0,3}<span style='color:#[a-fA-F0-9]{6}'>(<strong>)?[\\[]?W[\\]]?[\\s]?</span>"
+				+ "[\\s]?(</strong>[\\s]?<strong>)?(<strong>)?(" + PLAYER_PATTERN
+				+ ")(</strong>)?[\\s]*( - nicht besttigt)?<br[\\s]?/>", 1, 3, 9));
+		rules.add(new SlotLineRule("(<span style='color:#[a-fA-F0-9]{6}'>)?#([\\d]+)[\\s]{0,3}[\\-]?[\\s]{1,3}(" + SLOT_PATTERN
+				+ ")(</span>)?[\\s]?(</strong></span>|</span></strong>)?[\\s]{0,3}[\\-]?"
+				+ "[\\s]{0,3}<span style='color:#[a-fA-F0-9]{6}'>(<strong>)?[\\[]?W[\\]]?[\\s]?</span>"
+				+ "[\\s]?(</strong>[\\s]?<strong>)?(<strong>)?(" + PLAYER_PATTERN
+				+ ")(</strong>)?[\\s]*( - nicht besttigt)?<br[\\s]?/>", 2, 3, 9));
+		return Collections.unmodifiableList(rules);
+	}
+
+	/**
+	 * Parses a line of a slot-list by applying every rule on its own and
+	 * records the rules that match in the rule order.
+	 * 
+	 * @param line
+	 *            Line to parse
+	 * @return The parsed slot line or <tt>null</tt> if the line is no line of
+	 *         a slot-list
+	 */
+	private static SlotLine parseSlotLineLearning(final String line) {
+		final BitSet matched = new BitSet(SLOT_LINE_RULES.size());
+		Matcher firstMatcher = null;
+		SlotLineRule firstRule = null;
+		for (int i = 0; i < SLOT_LINE_RULES.size(); i++) {
+			final SlotLineRule rule = SLOT_LINE_RULES.get(i);
+			final Matcher matcher = rule.getPattern().matcher(line);
+			if (matcher.find()) {
+				matched.set(i);
+				if (firstRule == null) {
+					firstRule = rule;
+					firstMatcher = matcher;
+				}
+			}
+		}
+		if (firstRule == null) {
+			return null;
+		}
+		RULE_ORDER.record(matched);
+		return firstRule.createSlotLine(firstMatcher, 0);
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private SlotLineParser() {
+
+	}
+}
@@ -0,0 +1,109 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Rule of the slot-line grammar. Consists of a regular expression and the
+ * indices of the groups that capture key, slot and player. The rules are
+ * combined into a single pattern by {@link SlotLineMatcher}.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SlotLineRule {
+	/**
+	 * Amount of capturing groups in the regular expression.
+	 */
+	private final int groupCount;
+	/**
+	 * Index of the group that captures the key.
+	 */
+	private final int keyGroup;
+	/**
+	 * Compiled pattern of the rule on its own.
+	 */
+	private final Pattern pattern;
+	/**
+	 * Index of the group that captures the player.
+	 */
+	private final int playerGroup;
+	/**
+	 * Regular expression of the rule.
+	 */
+	private final String regex;
+	/**
+	 * Index of the group that captures the slot.
+	 */
+	private final int slotGroup;
+
+	/**
+	 * Creates a new rule of the slot-line grammar. The regular expression gets
+	 * matched case insensitive.
+	 * 
+	 * @param thatRegex
+	 *            Regular expression of the rule
+	 * @param thatKeyGroup
+	 *            Index of the group that captures the key
+	 * @param thatSlotGroup
+	 *            Index of the group that captures the slot
+	 * @param thatPlayerGroup
+	 *            Index of the group that captures the player
+	 * @throws PatternSyntaxException
+	 *             If the regular expression is invalid
+	 */
+	public SlotLineRule(final String thatRegex, final int thatKeyGroup, final int thatSlotGroup,
+			final int thatPlayerGroup) {
+		this.regex = thatRegex;
+		this.pattern = Pattern.compile(thatRegex, Pattern.CASE_INSENSITIVE);
+		this.groupCount = this.pattern.matcher("").groupCount();
+		this.keyGroup = thatKeyGroup;
+		this.slotGroup = thatSlotGroup;
+		this.playerGroup = thatPlayerGroup;
+	}
+
+	/**
+	 * Creates the slot line out of a match of this rule. The groups of the
+	 * rule are shifted by the given offset, which allows to extract them from
+	 * a pattern that contains the rule as part.
+	 * 
+	 * @param matcher
+	 *            Matcher whose last match was made by this rule
+	 * @param groupOffset
+	 *            Offset of the groups of this rule in the matched pattern
+	 * @return The matched slot line
+	 */
+	public SlotLine createSlotLine(final Matcher matcher, final int groupOffset) {
+		return new SlotLine(matcher.group(groupOffset + this.keyGroup), matcher.group(groupOffset + this.slotGroup),
+				matcher.group(groupOffset + this.playerGroup));
+	}
+
+	/**
+	 * Gets the amount of capturing groups in the regular expression.
+	 * 
+	 * @return The amount of capturing groups
+	 */
+	public int getGroupCount() {
+		return this.groupCount;
+	}
+
+	/**
+	 * Gets the compiled pattern of the rule on its own, matched case
+	 * insensitive. Its groups have an offset of <tt>0</tt>.
+	 * 
+	 * @return The compiled pattern
+	 */
+	public Pattern getPattern() {
+		return this.pattern;
+	}
+
+	/**
+	 * Gets the regular expression of the rule.
+	 * 
+	 * @return The regular expression
+	 */
+	public String getRegex() {
+		return this.regex;
+	}
+}
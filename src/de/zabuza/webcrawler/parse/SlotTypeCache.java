@@ -0,0 +1,208 @@
+package de.zabuza.webcrawler.parse;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import de.zabuza.webcrawler.enums.SlotType;
+import de.zabuza.webcrawler.util.CrawlerUtil;
+import de.zabuza.webcrawler.util.DataWriter;
+
+/**
+ * Bounded cache that remembers the slot type slot texts got classified as.
+ * An arbitrary entry gets evicted if the cache is full. The cache is
+ * thread-safe and lookups never block, it can be shared by parallel crawls.
+ * It can also be saved to a file and loaded again in a later run.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SlotTypeCache {
+	/**
+	 * Version of the file format, written in front of the entries. Version 1
+	 * could contain slot types of a learned rule order that differ from the
+	 * results of the rules.
+	 */
+	private static final int FORMAT_VERSION = 2;
+
+	/**
+	 * Maximal amount of entries in the cache.
+	 */
+	private final int capacity;
+	/**
+	 * Entries of the cache.
+	 */
+	private final ConcurrentHashMap<String, SlotType> entries;
+	/**
+	 * Amount of lookups that were answered by the cache.
+	 */
+	private final AtomicLong hits;
+	/**
+	 * Amount of lookups that were not answered by the cache.
+	 */
+	private final AtomicLong misses;
+
+	/**
+	 * Creates a new empty cache.
+	 * 
+	 * @param thatCapacity
+	 *            Maximal amount of entries in the cache
+	 */
+	public SlotTypeCache(final int thatCapacity) {
+		this.capacity = thatCapacity;
+		this.entries = new ConcurrentHashMap<>();
+		this.hits = new AtomicLong();
+		this.misses = new AtomicLong();
+	}
+
+	/**
+	 * Gets the slot type the given slot text was classified as.
+	 * 
+	 * @param slotText
+	 *            Slot text to get the type of
+	 * @return The cached slot type or <tt>null</tt> if the slot text is not
+	 *         cached
+	 */
+	public SlotType get(final String slotText) {
+		final SlotType slot = this.entries.get(slotText);
+		if (slot == null) {
+			this.misses.incrementAndGet();
+		} else {
+			this.hits.incrementAndGet();
+		}
+		return slot;
+	}
+
+	/**
+	 * Gets the amount of lookups that were answered by the cache.
+	 * 
+	 * @return The amount of hits
+	 */
+	public long getHits() {
+		return this.hits.get();
+	}
+
+	/**
+	 * Gets the amount of lookups that were not answered by the cache.
+	 * 
+	 * @return The amount of misses
+	 */
+	public long getMisses() {
+		return this.misses.get();
+	}
+
+	/**
+	 * Loads the entries of a file that was written by {@link #save(String)}
+	 * into the cache. Nothing gets loaded if the file does not exist or was
+	 * written in an other format.
+	 * 
+	 * @param path
+	 *            Path to the file
+	 * @throws IOException
+	 *             If an I/O-Exception occurs
+	 */
+	public void load(final String path) throws IOException {
+		final File file = new File(path);
+		if (!file.isFile()) {
+			return;
+		}
+		try (final DataInputStream input = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(file)))) {
+			if (input.readInt() != FORMAT_VERSION) {
+				return;
+			}
+			final int size = input.readInt();
+			for (int i = 0; i < size; i++) {
+				final String slotText = input.readUTF();
+				final SlotType slot = SlotType.valueOf(input.readUTF());
+				put(slotText, slot);
+			}
+		} catch (final IllegalArgumentException e) {
+			throw new IOException("Unknown slot type in cache file: " + path, e);
+		}
+	}
+
+	/**
+	 * Puts the slot type a slot text was classified as into the cache. If
+	 * the cache is full an arbitrary entry gets evicted. Parallel puts may
+	 * exceed the capacity by the amount of putting threads for a short time.
+	 * 
+	 * @param slotText
+	 *            The classified slot text
+	 * @param slot
+	 *            The slot type of the slot text
+	 */
+	public void put(final String slotText, final SlotType slot) {
+		if (this.entries.put(slotText, slot) != null) {
+			return;
+		}
+		final Iterator<String> slotTexts = this.entries.keySet().iterator();
+		while (this.entries.size() > this.capacity && slotTexts.hasNext()) {
+			final String evicted = slotTexts.next();
+			if (!evicted.equals(slotText)) {
+				slotTexts.remove();
+			}
+		}
+	}
+
+	/**
+	 * Saves the entries of the cache to a file. The file gets replaced
+	 * atomically if the file system supports it.
+	 * 
+	 * @param path
+	 *            Path to the file
+	 * @throws IOException
+	 *             If an I/O-Exception occurs
+	 */
+	public void save(final String path) throws IOException {
+		final List<Entry<String, SlotType>> snapshot = new ArrayList<>(this.entries.entrySet());
+
+		CrawlerUtil.writeFileAtomically(new File(path), new DataWriter() {
+			@Override
+			public void write(final DataOutputStream output) throws IOException {
+				output.writeInt(FORMAT_VERSION);
+				output.writeInt(snapshot.size());
+				for (final Entry<String, SlotType> entry : snapshot) {
+					output.writeUTF(entry.getKey());
+					output.writeUTF(entry.getValue().name());
+				}
+			}
+		});
+	}
+
+	/**
+	 * Gets the amount of entries in the cache.
+	 * 
+	 * @return The amount of entries
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final long hitAmount = this.hits.get();
+		final long lookups = hitAmount + this.misses.get();
+		final long hitRate;
+		if (lookups == 0) {
+			hitRate = 0;
+		} else {
+			hitRate = Math.round(100.0 * hitAmount / lookups);
+		}
+		return hitAmount + " of " + lookups + " lookups cached (" + hitRate + "%), " + size() + " of "
+				+ this.capacity + " entries";
+	}
+}
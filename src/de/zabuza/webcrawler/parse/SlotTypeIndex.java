@@ -0,0 +1,99 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import de.zabuza.webcrawler.enums.SlotType;
+
+/**
+ * Utility class that provides the index of known slot names and their slot
+ * types. The index is loaded once from the resource {@link #RESOURCE}, which
+ * gets written by {@link de.zabuza.webcrawler.tools.SlotTypeParseTool}. Slot
+ * names are case-folded, a lookup is a single hash probe.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SlotTypeIndex {
+	/**
+	 * Name of the resource that contains the slot names, one entry of the form
+	 * <tt>name;type</tt> per line, encoded in UTF-8.
+	 */
+	public static final String RESOURCE = "slotTypeNames.csv";
+	/**
+	 * Separator between the slot name and the slot type in the resource.
+	 */
+	public static final String SEPARATOR = ResourceTable.SEPARATOR;
+	/**
+	 * Index that maps case-folded slot names to their slot type.
+	 */
+	private static final Map<String, SlotType> INDEX = loadIndex();
+
+	/**
+	 * Folds the case of a slot name the way the index stores it.
+	 * 
+	 * @param slotName
+	 *            Slot name to fold
+	 * @return The case-folded slot name
+	 */
+	public static String fold(final String slotName) {
+		return slotName.toLowerCase();
+	}
+
+	/**
+	 * Gets the slot type of a known slot name, ignoring its case.
+	 * 
+	 * @param slotName
+	 *            Slot name to get the type of
+	 * @return The slot type or <tt>null</tt> if the name is unknown
+	 */
+	public static SlotType get(final String slotName) {
+		return INDEX.get(fold(slotName));
+	}
+
+	/**
+	 * Gets the amount of known slot names.
+	 * 
+	 * @return The amount of known slot names
+	 */
+	public static int size() {
+		return INDEX.size();
+	}
+
+	/**
+	 * Splits a line of the resource into slot name and slot type the way the
+	 * index reads it.
+	 * 
+	 * @param line
+	 *            Line to split
+	 * @return The entry as array of slot name and slot type or <tt>null</tt>
+	 *         if the line has no separator
+	 */
+	public static String[] split(final String line) {
+		return ResourceTable.split(line);
+	}
+
+	/**
+	 * Loads the index from the resource. If a name occurs multiple times the
+	 * first entry wins.
+	 * 
+	 * @return The loaded index
+	 */
+	private static Map<String, SlotType> loadIndex() {
+		final Map<String, SlotType> index = new HashMap<>();
+		for (final String[] entry : ResourceTable.read(RESOURCE)) {
+			final String key = fold(entry[0]);
+			if (!index.containsKey(key)) {
+				index.put(key, SlotType.valueOf(entry[1]));
+			}
+		}
+		return Collections.unmodifiableMap(index);
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private SlotTypeIndex() {
+
+	}
+}
@@ -0,0 +1,236 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.regex.Pattern;
+
+import de.zabuza.webcrawler.enums.SlotType;
+
+/**
+ * Utility class that classifies slot texts by the rules of the slot type
+ * grammar. A rule consists of a regular expression that matches the whole
+ * slot text and the slot type it stands for, the first rule that matches
+ * wins. The patterns are compiled once, the order they are tried in adapts
+ * to the slot texts of the crawled events, see {@link #getRuleOrder()}. A rule
+ * that matches out of priority order only wins after all rules with higher
+ * priority that were not tried yet are checked, the order therefore never
+ * changes the result.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SlotTypeRules {
+	/**
+	 * Patterns that match slot texts containing the name of a slot type in
+	 * brackets, indexed by the ordinal of the slot type.
+	 */
+	private static final Pattern[] BRACKETED_NAME_PATTERNS = compileNamePatterns("^.*\\(", "\\).*$");
+	/**
+	 * Patterns that match slot texts consisting of the name of a slot type,
+	 * indexed by the ordinal of the slot type.
+	 */
+	private static final Pattern[] EXACT_NAME_PATTERNS = compileNamePatterns("^", "$");
+	/**
+	 * Regular expressions of the rules, ordered by priority and indexed like
+	 * {@link #TYPES}.
+	 */
+	private static final String[] EXPRESSIONS = {
+			"^((CO|Commanding[\\s]?Officer)([\\s]?\\(.*\\))?|"
+					+ "Platoon (Leader|Commander) \\(CO\\)|Kommandierender[\\s]?Offizier[\\s]?(/CO)?|"
+					+ "Einsatzleiter|Ilaclar Anfhrer|Anfhrer|Kompaniefhrer \\(CO\\)|"
+					+ "Company[\\s]?Leader|Plt Leader \\(CO,.*\\)|Troop Commander \\(CO\\)|"
+					+ "CO[\\s\\-]?/[\\s\\-]?TC|Talibananfhrer([\\s]?\\(C.*\\))?.*|FBI Agent Teamleader|Lehrgangsleiter)$",
+			"^((XO|Rechte Hand|RTO|Executive[\\s]?Officer)([\\s]?\\(.*\\))?"
+					+ "|Ass\\. Platoonleader \\(XO\\)|Platoon[\\s]?Sergeant \\(XO\\)|"
+					+ "Kommandierender[\\s]?Offizier(/XO)?|Assistenz-Leitung|Silah Anfhrer|"
+					+ "Ausfhrender Offizier/XO|Panzerzugfhrer \\(XO/PL\\)|"
+					+ "Squad Leader[\\s]?\\(XO,.*\\)|Panzerzugfhrer[\\s]?\\(XO.*\\)|"
+					+ "Troop Sergeant \\(XO\\)|XO[\\s\\-]?/[\\s\\-]?TC|Panzerzugfhrer[\\s]?\\(XO.*\\)([\\s]?-)?|"
+					+ "FBI Agent)$",
+			"^(CoL|Chief[\\s]?of[\\s]?Logisti[ck]s?)$",
+			"^(JTAC|ATC|Joint[\\s]?Tactical[\\s]?Air[\\s]?Controller|Air[\\s]?Traffic[\\s]?Controller|"
+					+ "Air Intelligence Officer)$",
+			"^(MIO|Military[\\s]?Intelligence[\\s]?Officer)$",
+			"^(FO|Forward[\\s]?Observer)$",
+			"^((Tank[\\s\\-]?)?Platoon[\\s-]?(Infantry[\\s\\-]?)?Lead(er)?|Platoon Command(er)?|"
+					+ "Panzerzugfhrer \\(PL\\)|Platoonleader[\\s]?\\([^XC].*\\))$",
+			"^(Tank[\\s\\-]?)?Platoon[\\s]?(Sergeant|Seargent)([\\s]?\\([^XC].*\\))?$",
+			"^(((Tank|BMP)[\\s\\-]?)?(Kommandant|Commander)([\\s]?\\(.*\\))?|RIOT-Fahrzeug Kommandant|"
+					+ "Squad Leader[\\s]?\\(BMP Commander\\)|Tank[\\s\\-]?(Platoonleader|Commander))$",
+			"^(GNR|(Richt|Panzer)?Schtze([\\s]?\\(.*\\))?|RIOT-Fahrzeug Schtze|"
+					+ "BMP[\\s]{0,2}Gunner|Gunner)$",
+			"^(DRV|(Panzer)?Fahrer([\\s]?\\(.*\\))?|RIOT-Fahrzeug Fahrer|"
+					+ "BMP Driver|Driver|Panzerhaubitzen[\\s\\-]?Fahrer)$",
+			"^((Logisti[ck][\\s\\-]?)?Team[\\s]?(leader|leiter)([\\s\\-\\(SD\\)]?)?\\*?|Batteriefhrer|Mrserkommandant|"
+					+ "(rzte|Medic)[\\s\\-]?Teamleader|Rebellenfhrer|Gruppenleiter|Offizier|SWAT-Teamleader|"
+					+ "Team Leader/Gunner|EOD[\\s\\-]?Teamlead(er)?|Mrser[\\s\\-]?Kommandant|"
+					+ "Logistik[\\s\\-]?Teamleader|Panzerhaubitzen[\\s\\-]?Kommandant|"
+					+ "Senior[\\s\\-]Rifleman/[\\s]?Team[\\s-]?leader|Teamleader \\(AK.*\\))$",
+			"^(Squad[\\s]?lead(er)?[\\s]?(\\([^XC].*\\)|Alpha|Bravo|Charlie|"
+					+ "Delta|Echo|Romeo)?|Zellenfhrer)$",
+			"^(FTL|Fire[\\s]?team[\\s\\-]?lead(er)?|Truppfhrer|"
+					+ "Scout[\\s\\-]Teamleader?|Zellenfhrer[\\s]+\\(FTL\\).*)$",
+			"^(LMG|(Scout[\\s\\-]?)?Automati[ck][\\s]?Rifleman|Autorifleman|Auto\\. Rifleman|"
+					+ "Leibwache \\(AR\\)|Automatikschtze|LMG[\\s\\-]?(Schtze)?|"
+					+ "Operator \\(Weapon Specialist\\)|Maschinengewehr[\\s\\-]?Schtze|" + ".*\\(RPK\\).*)$",
+			"^((Ass(ist)?\\.|Assistant)[\\s]?Automati[ck][\\s]?Rifleman|Rifleman([\\s\\-\\(SD\\)]?)?|Operator|Kmpfer|"
+					+ "Polizei-Beamter|SWAT-Beamter|Krimineller|Nahsicherer|Assistant[\\s]?Grenadier|Assistent|"
+					+ "Mrser Nahsicherer|(Filmproduzent|Kameramann)([\\s]?\\((AK|PKM).*\\))?|(Assist[ea]nt[\\s\\-]?Scout)?)$",
+			"^Grenadier([\\s]\\(.*\\))?$",
+			"^(DM|Designated[\\s]?Marksman|Marksman \\(SVDM\\)|Marksman|"
+					+ "Gruppenscharfschtze|Leibwache \\(DM\\)|SVD Rifleman|" + "Rifleman[\\s]?\\(SVD\\))$",
+			"^((Scout[\\s\\-]?|Rifleman/)?Combat[\\s]?Medic|Notfallsanitter|Leibwache \\(MED\\)|"
+					+ "Para[\\s\\-]?medic|Corpsman|Rifleman[\\s]?\\(Medic\\)|"
+					+ "Operator \\(Medic([\\s]?Specialist)?\\)|Rifleman/Medic|Flight[\\s\\-]Medic)$",
+			"^Rifleman[\\s\\-]?\\(?AT\\)?$",
+			"^Rifleman[\\s]?AA$",
+			"^(MG|(Heavy)?[\\s]?Machine[\\s]?gunner([\\s\\-]?\\(PKM\\))?|Heavy[\\s]?Automati[ck][\\s]?Rifleman|"
+					+ "MMG Rifleman|MG[0-9][\\s\\-]?Schtze)$",
+			"^(AMG|Ass(ist)?\\.[\\s]?Machinegunner|Assistent[\\s]?Automati[ck][\\s]?Rifleman|"
+					+ "PKP-Ass(ist)?(\\.)?|Assistant MMG Rifleman|Munitionstrger([\\s\\-\\(SD\\)]?)?)$",
+			"^(AT[\\s\\-]?(Specialist|Soldat)?|Missile[\\s]?Specialist[\\s]?\\(Javelin\\)|Heavy[\\s]?(Anti-Tank|AT)[\\s]?Rifleman)$",
+			"^(Ass(ist)?\\.[\\s]?AT|Missile[\\s]?Specialist[\\s]?\\((Asst.|Assistent|Ass(ist)?.)\\)"
+					+ "|Assistent[\\s]?(Anti-Tank|AT)[\\s]?Rifleman|(Assistant|Ass(ist)?\\.)[\\s]?AT[\\s\\-]?Specialist)$",
+			"^(EOD|Explosiv[e]?[\\s]?Ordnance[\\s]?Disposel|Explosiv[e]?[\\s]?Expert|"
+					+ "Explosiv[e]?[\\s-]?Specialist|Sprengstoff Spezialist|Pionier|EOD[\\s\\-]?Specialist|"
+					+ "Operator \\(Explosi(on|ve) Specialist\\))$",
+			"^((Scout[\\s\\-]?)?Sniper|Scharfschtze|SWAT-Scharfschtze)$",
+			"^((Scout[\\s\\-]?)?Spotter|SWAT-Spotter)$",
+			"^Logistik(er)?([\\s]\\(.*\\))?$",
+			"^(Pilot([\\s]\\(.*\\))?([\\s\\-]?(Medevac|Sicherung).*)?|Rottenfhrer)$",
+			"^Co[\\.-]Pilot([\\s]\\(.*\\))?$",
+			"^Fixed-wing Pilot [12] \\(.*\\)$",
+			"^Gunner \\(UH-80\\)$",
+			"^((Platoon|Company)?[\\s]?Medic([\\s]\\(.*\\)?)?|Internist|Chirurg|Senior Corpsman|"
+					+ "Platoon Corpsman|Notarzt|Notfall[\\s\\-]?Sanitter|Sanitter|(Field[\\s\\-]?)?Surgeon)$",
+			"^(Mrser|Panzerhaubitzen?)[\\s\\-]?schtze$",
+			"^(Geisel|Geiselnehmer/CO\\+|Co\\+([\\s\\-]?Spieler)?)$",
+			"^(Door[\\s-]?Gunner|BB(-)?Spieler[\\s]?(\\(.*\\))?|"
+					+ "Air Support Control Officer|Assistant Gunner|\\?\\?\\?|" + "Seiten[\\s\\-]?schtze)$" };
+	/**
+	 * Compiled patterns of the rules, indexed like {@link #EXPRESSIONS}.
+	 */
+	private static final Pattern[] PATTERNS = compilePatterns();
+	/**
+	 * Order in which the rules get tried.
+	 */
+	private static final AdaptiveRuleOrder RULE_ORDER = new AdaptiveRuleOrder(Arrays.asList(EXPRESSIONS));
+	/**
+	 * Slot types of the rules, indexed like {@link #EXPRESSIONS}.
+	 */
+	private static final SlotType[] TYPES = { SlotType.CO, SlotType.XO, SlotType.COL, SlotType.JTAC, SlotType.MIO,
+			SlotType.MIO, SlotType.PL, SlotType.PSG, SlotType.TC, SlotType.GNR, SlotType.DRV, SlotType.TL, SlotType.SL,
+			SlotType.FTL, SlotType.AR, SlotType.RFL, SlotType.GRE, SlotType.DM, SlotType.CMDC, SlotType.ATR,
+			SlotType.AAR, SlotType.MG, SlotType.AMG, SlotType.AT, SlotType.AAT, SlotType.CE, SlotType.SNP, SlotType.SPT,
+			SlotType.LOG, SlotType.PIL, SlotType.CPIL, SlotType.WCO, SlotType.WSO, SlotType.MDC, SlotType.ACSO,
+			SlotType.ZC_PLUS, SlotType.OTHER };
+
+	/**
+	 * Classifies the given slot text by the first rule that matches it.
+	 * 
+	 * @param slotText
+	 *            Slot text to classify
+	 * @return The slot type of the first rule that matches or <tt>null</tt>
+	 *         if no rule matches
+	 */
+	public static SlotType classify(final String slotText) {
+		if (RULE_ORDER.isLearning()) {
+			final BitSet matched = new BitSet(PATTERNS.length);
+			for (int i = 0; i < PATTERNS.length; i++) {
+				if (PATTERNS[i].matcher(slotText).find()) {
+					matched.set(i);
+				}
+			}
+			if (matched.isEmpty()) {
+				return null;
+			}
+			RULE_ORDER.record(matched);
+			return TYPES[matched.nextSetBit(0)];
+		}
+
+		final BitSet tried = new BitSet(PATTERNS.length);
+		for (final int rule : RULE_ORDER.getOrder()) {
+			if (PATTERNS[rule].matcher(slotText).find()) {
+				// Rules with higher priority that come later in the order win
+				for (int other = tried.nextClearBit(0); other < rule; other = tried.nextClearBit(other + 1)) {
+					if (PATTERNS[other].matcher(slotText).find()) {
+						return TYPES[other];
+					}
+				}
+				return TYPES[rule];
+			}
+			tried.set(rule);
+		}
+		return null;
+	}
+
+	/**
+	 * Classifies the given slot text by the names of the slot types. A slot
+	 * type whose name the text contains in brackets wins over one the text
+	 * only equals, among them the last slot type wins.
+	 * 
+	 * @param slotText
+	 *            Slot text to classify
+	 * @return The slot type whose name matches or <tt>null</tt> if no name
+	 *         matches
+	 */
+	public static SlotType classifyByName(final String slotText) {
+		SlotType slot = null;
+		for (final SlotType type : SlotType.values()) {
+			if (BRACKETED_NAME_PATTERNS[type.ordinal()].matcher(slotText).find()) {
+				slot = type;
+			} else if (slot == null && EXACT_NAME_PATTERNS[type.ordinal()].matcher(slotText).find()) {
+				slot = type;
+			}
+		}
+		return slot;
+	}
+
+	/**
+	 * Gets the order in which the rules get tried. It can learn from the
+	 * classified slot texts and be saved for later runs.
+	 * 
+	 * @return The order of the rules
+	 */
+	public static AdaptiveRuleOrder getRuleOrder() {
+		return RULE_ORDER;
+	}
+
+	/**
+	 * Compiles a pattern for the name of every slot type, case insensitive.
+	 * 
+	 * @param prefix
+	 *            Regular expression in front of the name
+	 * @param suffix
+	 *            Regular expression behind the name
+	 * @return The compiled patterns, indexed by the ordinal of the slot type
+	 */
+	private static Pattern[] compileNamePatterns(final String prefix, final String suffix) {
+		final SlotType[] types = SlotType.values();
+		final Pattern[] patterns = new Pattern[types.length];
+		for (final SlotType type : types) {
+			patterns[type.ordinal()] = Pattern.compile(prefix + type + suffix, Pattern.CASE_INSENSITIVE);
+		}
+		return patterns;
+	}
+
+	/**
+	 * Compiles the regular expressions of the rules, case insensitive.
+	 * 
+	 * @return The compiled patterns, indexed like {@link #EXPRESSIONS}
+	 */
+	private static Pattern[] compilePatterns() {
+		final Pattern[] patterns = new Pattern[EXPRESSIONS.length];
+		for (int i = 0; i < EXPRESSIONS.length; i++) {
+			patterns[i] = Pattern.compile(EXPRESSIONS[i], Pattern.CASE_INSENSITIVE);
+		}
+		return patterns;
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private SlotTypeRules() {
+
+	}
+}
@@ -0,0 +1,160 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class that extracts details of an event from single lines of the
+ * content of its thread, like the starting time and the map. All patterns
+ * are compiled once. Lines are first checked for texts every match has to
+ * contain, lines without them are skipped without running a pattern.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ThreadLineParser {
+	/**
+	 * Group of {@link #MAP_PATTERN} that contains the name of the map.
+	 */
+	private static final int MAP_GROUP = 4;
+	/**
+	 * Pattern of a line that names the map, the name is in group
+	 * {@link #MAP_GROUP}.
+	 */
+	private static final Pattern MAP_PATTERN = Pattern.compile("((Map)|(Karte))[\\s]?:[\\s]?(.+)<",
+			Pattern.CASE_INSENSITIVE);
+	/**
+	 * Pattern of a span that sets the color.
+	 */
+	private static final Pattern SPAN_COLOR_PATTERN = Pattern.compile("<span style='color:#.{3,6}'>");
+	/**
+	 * Text every span that sets the color starts with.
+	 */
+	private static final String SPAN_COLOR_START = "<span style='color:#";
+	/**
+	 * Text that closes a span.
+	 */
+	private static final String SPAN_END = "</span>";
+	/**
+	 * Pattern of a span that sets the font size.
+	 */
+	private static final Pattern SPAN_SIZE_PATTERN = Pattern.compile("<span style='font-size:.{1,6}'>");
+	/**
+	 * Text every span that sets the font size starts with.
+	 */
+	private static final String SPAN_SIZE_START = "<span style='font-size:";
+	/**
+	 * Group of {@link #TIME_PATTERN} that contains the starting time.
+	 */
+	private static final int TIME_GROUP = 11;
+	/**
+	 * Pattern of a line that names the starting time of the event, the time
+	 * is in group {@link #TIME_GROUP}.
+	 */
+	private static final Pattern TIME_PATTERN = Pattern.compile("^[\\s]*(<(strong|i)>)?(Eventbeginn|Beginn|Eventstart|"
+			+ "Treffen im (Teamspeak|TS)|Start|Treffen|Sammeln im Teamspeak|Trainingsbeginn)(<\\/(strong|i)>)?:(<\\/(strong|i)>)?"
+			+ "(\\s|&gt;|\\-|ab)*(<strong>)?" + "([0-9]{2}[\\.:]?[0-9]{2})"
+			+ "[\\s]*(Uhr|h)?(<\\/strong>)?(\\s|&lt;)*<br[\\s]?\\/>", Pattern.CASE_INSENSITIVE);
+	/**
+	 * Wrongly decoded dash.
+	 */
+	private static final String WRONG_DASH = "";
+
+	/**
+	 * Finds the starting time of the event in the given line.
+	 * 
+	 * @param line
+	 *            Line of the content, normalized by
+	 *            {@link #normalizeTimeLine(String)}
+	 * @return The starting time as four digits in the format <tt>HHmm</tt>
+	 *         or <tt>null</tt> if the line names no starting time
+	 */
+	public static String findEventTime(final String line) {
+		// Every match contains a colon and ends with a line break
+		if (line.indexOf(':') == -1 || !containsIgnoreCase(line, "<br")) {
+			return null;
+		}
+		final Matcher matcher = TIME_PATTERN.matcher(line);
+		if (!matcher.find()) {
+			return null;
+		}
+		final String time = matcher.group(TIME_GROUP);
+		if (time.length() == 4) {
+			return time;
+		}
+		return time.substring(0, 2) + time.substring(3);
+	}
+
+	/**
+	 * Finds the name of the map in the given line.
+	 * 
+	 * @param line
+	 *            Line of the content
+	 * @return The name of the map as written in the line or <tt>null</tt> if
+	 *         the line names no map
+	 */
+	public static String findMap(final String line) {
+		// Every match contains a colon and one of the keywords
+		if (line.indexOf(':') == -1 || !containsIgnoreCase(line, "Map") && !containsIgnoreCase(line, "Karte")) {
+			return null;
+		}
+		final Matcher matcher = MAP_PATTERN.matcher(line);
+		if (!matcher.find()) {
+			return null;
+		}
+		return matcher.group(MAP_GROUP);
+	}
+
+	/**
+	 * Normalizes the given line for searching the starting time by removing
+	 * spans and replacing wrongly decoded dashes. Each replacement only runs
+	 * if the line contains the text it replaces.
+	 * 
+	 * @param line
+	 *            Line of the content
+	 * @return The normalized line
+	 */
+	public static String normalizeTimeLine(final String line) {
+		String normalized = line;
+		if (normalized.contains(WRONG_DASH)) {
+			normalized = normalized.replace(WRONG_DASH, "-");
+		}
+		if (normalized.contains(SPAN_COLOR_START)) {
+			normalized = SPAN_COLOR_PATTERN.matcher(normalized).replaceAll("");
+		}
+		if (normalized.contains(SPAN_SIZE_START)) {
+			normalized = SPAN_SIZE_PATTERN.matcher(normalized).replaceAll("");
+		}
+		if (normalized.contains(SPAN_END)) {
+			normalized = normalized.replace(SPAN_END, "");
+		}
+		return normalized;
+	}
+
+	/**
+	 * Whether the given text contains the given word, ignoring case.
+	 * 
+	 * @param text
+	 *            Text to search
+	 * @param word
+	 *            Word to find
+	 * @return <tt>True</tt> if the text contains the word, <tt>false</tt> if
+	 *         not
+	 */
+	private static boolean containsIgnoreCase(final String text, final String word) {
+		final int lastStart = text.length() - word.length();
+		for (int i = 0; i <= lastStart; i++) {
+			if (text.regionMatches(true, i, word, 0, word.length())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private ThreadLineParser() {
+
+	}
+}
@@ -0,0 +1,73 @@
+package de.zabuza.webcrawler.parse;
+
+/**
+ * Date that was found in the title of an event thread. If the title misses
+ * the year it has to be completed with the year the thread was written in.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class TitleDate {
+	/**
+	 * Text of the date in the format <tt>dd.MM.yyyy</tt>, without the year if
+	 * the date is not complete.
+	 */
+	private final String text;
+	/**
+	 * Shape of the year that completes the date or <tt>null</tt> if the date
+	 * is complete, see {@link TitleDateParser}.
+	 */
+	private final String yearShape;
+
+	/**
+	 * Creates a new date.
+	 * 
+	 * @param thatText
+	 *            Text of the date, without the year if the date is not
+	 *            complete
+	 * @param thatYearShape
+	 *            Shape of the year that completes the date or <tt>null</tt>
+	 *            if the date is complete
+	 */
+	public TitleDate(final String thatText, final String thatYearShape) {
+		this.text = thatText;
+		this.yearShape = thatYearShape;
+	}
+
+	/**
+	 * Finds the year that completes this date in the given text, which
+	 * contains the date the thread was written at.
+	 * 
+	 * @param wroteAt
+	 *            Text that contains the date the thread was written at
+	 * @return The text to append to complete this date or <tt>null</tt> if
+	 *         the given text contains no year
+	 */
+	public String findYear(final String wroteAt) {
+		final int yearIndex = TitleDateParser.indexOfShape(this.yearShape, wroteAt);
+		if (yearIndex == -1) {
+			return null;
+		}
+		return wroteAt.substring(yearIndex, yearIndex + this.yearShape.length());
+	}
+
+	/**
+	 * Gets the text of the date in the format <tt>dd.MM.yyyy</tt>, without
+	 * the year if the date is not complete.
+	 * 
+	 * @return The text of the date
+	 */
+	public String getText() {
+		return this.text;
+	}
+
+	/**
+	 * Whether the date is complete or misses the year.
+	 * 
+	 * @return <tt>True</tt> if the date is complete, <tt>false</tt> if it
+	 *         misses the year
+	 */
+	public boolean isComplete() {
+		return this.yearShape == null;
+	}
+}
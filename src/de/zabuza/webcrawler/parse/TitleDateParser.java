@@ -0,0 +1,333 @@
+package de.zabuza.webcrawler.parse;
+
+/**
+ * Utility class that finds the date of an event in the title of its thread.
+ * Names of months get replaced in a single pass, the date is then recognised
+ * in a single pass over the title. The formats of dates are described by
+ * shapes, strings of classes of which each matches exactly one char:
+ * <tt>9</tt> matches a digit, <tt>.</tt> a dot, <tt>D</tt> anything but a
+ * digit, <tt>N</tt> anything but a digit or dot and <tt>P</tt> anything but a
+ * dot.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class TitleDateParser {
+	/**
+	 * Format of dates in titles.
+	 * 
+	 * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+	 *
+	 */
+	private static final class Format {
+		/**
+		 * Shape of the dates of this format.
+		 */
+		private final String shape;
+		/**
+		 * Template of the resulting text. The letter <tt>a</tt> stands for
+		 * the first char of the matched shape, <tt>b</tt> for the second and
+		 * so on, all other chars are taken as they are.
+		 */
+		private final String template;
+		/**
+		 * Shape of the year that completes dates of this format or
+		 * <tt>null</tt> if they are complete.
+		 */
+		private final String yearShape;
+
+		/**
+		 * Creates a new format.
+		 * 
+		 * @param thatShape
+		 *            Shape of the dates of this format
+		 * @param thatTemplate
+		 *            Template of the resulting text
+		 * @param thatYearShape
+		 *            Shape of the year that completes dates of this format or
+		 *            <tt>null</tt> if they are complete
+		 */
+		public Format(final String thatShape, final String thatTemplate, final String thatYearShape) {
+			this.shape = thatShape;
+			this.template = thatTemplate;
+			this.yearShape = thatYearShape;
+		}
+
+		/**
+		 * Creates the date of the shape that was matched at the given index
+		 * of the given text.
+		 * 
+		 * @param text
+		 *            Text that contains the date
+		 * @param index
+		 *            Index where the shape was matched
+		 * @return The created date
+		 */
+		public TitleDate createDate(final String text, final int index) {
+			final StringBuilder date = new StringBuilder(this.template.length());
+			for (int i = 0; i < this.template.length(); i++) {
+				final char c = this.template.charAt(i);
+				if (c >= 'a' && c <= 'z') {
+					date.append(text.charAt(index + c - 'a'));
+				} else {
+					date.append(c);
+				}
+			}
+			return new TitleDate(date.toString(), this.yearShape);
+		}
+
+		/**
+		 * Whether the shape of this format matches the given text at the
+		 * given index.
+		 * 
+		 * @param text
+		 *            Text to match
+		 * @param index
+		 *            Index to match at
+		 * @return <tt>True</tt> if the shape matches, <tt>false</tt> if not
+		 */
+		public boolean matchesAt(final String text, final int index) {
+			return TitleDateParser.matchesAt(this.shape, text, index);
+		}
+	}
+
+	/**
+	 * Formats of dates, the first format that occurs in a title wins.
+	 */
+	private static final Format[] FORMATS = createFormats();
+	/**
+	 * Names of months, each directly followed by the number of its month. If
+	 * names start with the same text the longer name is listed first.
+	 */
+	private static final String[] MONTHS = { "Januar", "01", "Februar", "02", "Mrz", "03", "April", "04", "Mai", "05",
+			"Juni", "06", "Juli", "07", "August", "08", "September", "09", "Oktober", "10", "November", "11",
+			"Dezember", "12", "Jan", "01", "Feb", "02", "Mr", "03", "Apr", "04", "Jun", "06", "Jul", "07", "Aug",
+			"08", "Sep", "09", "Okt", "10", "Nov", "11", "Dez", "12" };
+	/**
+	 * Shape of a year that directly follows the month.
+	 */
+	private static final String YEAR = "9999";
+	/**
+	 * Shape of a year that follows the month after a dot.
+	 */
+	private static final String YEAR_AFTER_DOT = ".9999";
+	/**
+	 * Prequel of years that are given with two digits only.
+	 */
+	private static final String YEAR_PREFIX = "20";
+
+	/**
+	 * Finds the date in the given title. Months need to be replaced with
+	 * their numbers before, see {@link #replaceMonths(String)}.
+	 * 
+	 * @param title
+	 *            Title of the event thread
+	 * @return The date in the title or <tt>null</tt> if the title contains
+	 *         none
+	 */
+	public static TitleDate findDate(final String title) {
+		int bestFormat = FORMATS.length;
+		int bestIndex = -1;
+		for (int i = 0; i < title.length() && bestFormat > 0; i++) {
+			// Only formats that take precedence over the best one so far
+			for (int j = 0; j < bestFormat; j++) {
+				if (FORMATS[j].matchesAt(title, i)) {
+					bestFormat = j;
+					bestIndex = i;
+					break;
+				}
+			}
+		}
+		if (bestIndex == -1) {
+			return null;
+		}
+		return FORMATS[bestFormat].createDate(title, bestIndex);
+	}
+
+	/**
+	 * Replaces the names of months in the given title with their numbers. A
+	 * whitespace in front of and a dot after a name get replaced too.
+	 * 
+	 * @param title
+	 *            Title of the event thread
+	 * @return The title with replaced months, the given title itself if it
+	 *         contains no month
+	 */
+	public static String replaceMonths(final String title) {
+		StringBuilder replaced = null;
+		int copiedUntil = 0;
+		int i = 0;
+		while (i < title.length()) {
+			int nameIndex = i;
+			if (isWhitespace(title.charAt(i)) && i + 1 < title.length()) {
+				nameIndex = i + 1;
+			}
+			final int month = findMonth(title, nameIndex);
+			if (month == -1) {
+				i++;
+				continue;
+			}
+
+			int end = nameIndex + MONTHS[month].length();
+			if (end < title.length() && title.charAt(end) == '.') {
+				end++;
+			}
+			if (replaced == null) {
+				replaced = new StringBuilder(title.length());
+			}
+			replaced.append(title, copiedUntil, i).append(MONTHS[month + 1]);
+			copiedUntil = end;
+			i = end;
+		}
+
+		if (replaced == null) {
+			return title;
+		}
+		return replaced.append(title, copiedUntil, title.length()).toString();
+	}
+
+	/**
+	 * Gets the index of the first occurrence of the given shape in the given
+	 * text.
+	 * 
+	 * @param shape
+	 *            Shape to find
+	 * @param text
+	 *            Text to search
+	 * @return The index of the first occurrence or <tt>-1</tt> if there is
+	 *         none
+	 */
+	static int indexOfShape(final String shape, final String text) {
+		for (int i = 0; i + shape.length() <= text.length(); i++) {
+			if (matchesAt(shape, text, i)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Creates the formats of dates in the order in which they take
+	 * precedence.
+	 * 
+	 * @return The created formats
+	 */
+	private static Format[] createFormats() {
+		return new Format[] {
+				// 15.03.2014
+				new Format("99.99.9999", "abcdefghij", null),
+				// 7.2.2014
+				new Format("D9.9.9999", "0b.0d.fghi", null),
+				// 15.03.14
+				new Format("99.99.99", "abcdef" + YEAR_PREFIX + "gh", null),
+				// 3.03.2014
+				new Format("9.99.9999", "0abcdefghi", null),
+				// 3.03.
+				new Format("D9.99.", "0bcdef", YEAR),
+				// 3.03
+				new Format("N9.99D", "0bcde", YEAR_AFTER_DOT),
+				// 15.03
+				new Format("99.99P", "abcde", YEAR_AFTER_DOT),
+				// 15.03.
+				new Format("P99.99.", "bcdefg", YEAR),
+				// 15.03.
+				new Format("99.99.D", "abcdef", YEAR),
+				// 15.3
+				new Format("99.9N", "abc0d", YEAR_AFTER_DOT),
+				// 15.3.2014
+				new Format("99.9.9999", "abc0defghi", null),
+				// 15.3.
+				new Format("99.9.", "abc0de", YEAR),
+				// 7.2.14
+				new Format("9.9.99", "0ab0cd" + YEAR_PREFIX + "ef", null),
+				// 5.3
+				new Format("9.9N", "0ab0c", YEAR_AFTER_DOT),
+				// 5.3.
+				new Format("9.9.", "0ab0cd", YEAR) };
+	}
+
+	/**
+	 * Finds the month whose name starts at the given index of the given
+	 * title.
+	 * 
+	 * @param title
+	 *            Title to search
+	 * @param index
+	 *            Index where the name has to start
+	 * @return The index of the name in {@link #MONTHS} or <tt>-1</tt> if no
+	 *         name starts there
+	 */
+	private static int findMonth(final String title, final int index) {
+		for (int i = 0; i < MONTHS.length; i += 2) {
+			if (title.startsWith(MONTHS[i], index)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Whether the given char is a whitespace as understood by <tt>\s</tt> in
+	 * regular expressions.
+	 * 
+	 * @param c
+	 *            Char to check
+	 * @return <tt>True</tt> if the char is a whitespace, <tt>false</tt> if
+	 *         not
+	 */
+	private static boolean isWhitespace(final char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	/**
+	 * Whether the given shape matches the given text at the given index.
+	 * 
+	 * @param shape
+	 *            Shape to match
+	 * @param text
+	 *            Text to match
+	 * @param index
+	 *            Index to match at
+	 * @return <tt>True</tt> if the shape matches, <tt>false</tt> if not
+	 */
+	private static boolean matchesAt(final String shape, final String text, final int index) {
+		if (index + shape.length() > text.length()) {
+			return false;
+		}
+		for (int i = 0; i < shape.length(); i++) {
+			final char c = text.charAt(index + i);
+			final boolean isDigit = c >= '0' && c <= '9';
+			final boolean matches;
+			switch (shape.charAt(i)) {
+			case '9':
+				matches = isDigit;
+				break;
+			case '.':
+				matches = c == '.';
+				break;
+			case 'D':
+				matches = !isDigit;
+				break;
+			case 'N':
+				matches = !isDigit && c != '.';
+				break;
+			case 'P':
+				matches = c != '.';
+				break;
+			default:
+				throw new AssertionError();
+			}
+			if (!matches) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private TitleDateParser() {
+
+	}
+}
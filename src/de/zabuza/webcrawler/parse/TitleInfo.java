@@ -0,0 +1,197 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.Map;
+
+import de.zabuza.webcrawler.enums.EventType;
+import de.zabuza.webcrawler.enums.TitleRuleKind;
+import de.zabuza.webcrawler.util.ParseFailure;
+
+/**
+ * Details of an event that were extracted from the title of its thread by
+ * {@link TitleParser}. Each detail that could not be extracted has a failure
+ * that gives the rule and the input of the parser.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class TitleInfo {
+	/**
+	 * Constant for a non-valid event size.
+	 */
+	public static final int NO_SIZE = -1;
+
+	/**
+	 * Date of the event or <tt>null</tt> if the title contains none.
+	 */
+	private final TitleDate date;
+	/**
+	 * Failure of extracting the date or <tt>null</tt> if it was extracted.
+	 */
+	private final ParseFailure dateFailure;
+	/**
+	 * Name of the event.
+	 */
+	private final String name;
+	/**
+	 * Failure of extracting the name or <tt>null</tt> if it was extracted.
+	 */
+	private final ParseFailure nameFailure;
+	/**
+	 * Rules that fired for the title by their kind.
+	 */
+	private final Map<TitleRuleKind, TitleRule> rules;
+	/**
+	 * Size of the event or {@link #NO_SIZE}.
+	 */
+	private final int size;
+	/**
+	 * Failure of extracting the size or <tt>null</tt> if it was extracted.
+	 */
+	private final ParseFailure sizeFailure;
+	/**
+	 * Type of the event.
+	 */
+	private final EventType type;
+	/**
+	 * Failure of extracting the type or <tt>null</tt> if it was extracted.
+	 */
+	private final ParseFailure typeFailure;
+
+	/**
+	 * Creates new details of an event.
+	 * 
+	 * @param thatRules
+	 *            Rules that fired for the title by their kind
+	 * @param thatType
+	 *            Type of the event
+	 * @param thatTypeFailure
+	 *            Failure of extracting the type or <tt>null</tt> if it
+	 *            was extracted
+	 * @param thatSize
+	 *            Size of the event or {@link #NO_SIZE}
+	 * @param thatSizeFailure
+	 *            Failure of extracting the size or <tt>null</tt> if it
+	 *            was extracted
+	 * @param thatName
+	 *            Name of the event
+	 * @param thatNameFailure
+	 *            Failure of extracting the name or <tt>null</tt> if it
+	 *            was extracted
+	 * @param thatDate
+	 *            Date of the event or <tt>null</tt> if the title contains
+	 *            none
+	 * @param thatDateFailure
+	 *            Failure of extracting the date or <tt>null</tt> if it
+	 *            was extracted
+	 */
+	public TitleInfo(final Map<TitleRuleKind, TitleRule> thatRules, final EventType thatType,
+			final ParseFailure thatTypeFailure, final int thatSize, final ParseFailure thatSizeFailure,
+			final String thatName, final ParseFailure thatNameFailure, final TitleDate thatDate,
+			final ParseFailure thatDateFailure) {
+		this.rules = thatRules;
+		this.type = thatType;
+		this.typeFailure = thatTypeFailure;
+		this.size = thatSize;
+		this.sizeFailure = thatSizeFailure;
+		this.name = thatName;
+		this.nameFailure = thatNameFailure;
+		this.date = thatDate;
+		this.dateFailure = thatDateFailure;
+	}
+
+	/**
+	 * Gets the date of the event. The date may miss the year, which then has
+	 * to be taken from the thread.
+	 * 
+	 * @return The date of the event or <tt>null</tt> if the title contains
+	 *         none
+	 */
+	public TitleDate getDate() {
+		return this.date;
+	}
+
+	/**
+	 * Gets the failure of extracting the date.
+	 * 
+	 * @return The failure or <tt>null</tt> if the date was extracted
+	 */
+	public ParseFailure getDateFailure() {
+		return this.dateFailure;
+	}
+
+	/**
+	 * Gets the name of the event, the whole title if it could not be
+	 * extracted.
+	 * 
+	 * @return The name of the event
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Gets the failure of extracting the name.
+	 * 
+	 * @return The failure or <tt>null</tt> if the name was extracted
+	 */
+	public ParseFailure getNameFailure() {
+		return this.nameFailure;
+	}
+
+	/**
+	 * Gets the rule of the given kind that fired for the title.
+	 * 
+	 * @param kind
+	 *            Kind of the rule
+	 * @return The rule or <tt>null</tt> if no rule of the kind fired
+	 */
+	public TitleRule getRule(final TitleRuleKind kind) {
+		return this.rules.get(kind);
+	}
+
+	/**
+	 * Gets the size of the event.
+	 * 
+	 * @return The size of the event or {@link #NO_SIZE}
+	 */
+	public int getSize() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the failure of extracting the size.
+	 * 
+	 * @return The failure or <tt>null</tt> if the size was extracted
+	 */
+	public ParseFailure getSizeFailure() {
+		return this.sizeFailure;
+	}
+
+	/**
+	 * Gets the type of the event.
+	 * 
+	 * @return The type of the event or {@link EventType#NO_TYPE}
+	 */
+	public EventType getType() {
+		return this.type;
+	}
+
+	/**
+	 * Gets the failure of extracting the type.
+	 * 
+	 * @return The failure or <tt>null</tt> if the type was extracted
+	 */
+	public ParseFailure getTypeFailure() {
+		return this.typeFailure;
+	}
+
+	/**
+	 * Whether the thread is no event.
+	 * 
+	 * @return <tt>True</tt> if the thread is no event, <tt>false</tt> if it
+	 *         is
+	 */
+	public boolean isExcluded() {
+		return this.rules.containsKey(TitleRuleKind.EXCLUSION);
+	}
+}
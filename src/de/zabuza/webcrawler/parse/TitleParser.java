@@ -0,0 +1,179 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import de.zabuza.webcrawler.enums.EventType;
+import de.zabuza.webcrawler.enums.TitleRuleKind;
+import de.zabuza.webcrawler.util.ParseFailure;
+
+/**
+ * Utility class that extracts the type, size, name and date of an event from
+ * the title of its thread. The rules of {@link TitleRules} are matched once
+ * for all details, details without a fired rule are extracted by patterns
+ * that are compiled once. Patterns of a detail are tried in order, the first
+ * one that matches wins.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class TitleParser {
+	/**
+	 * Patterns that extract the name of the event in group <tt>1</tt>.
+	 */
+	private static final Pattern[] NAME_PATTERNS = {
+				Pattern.compile("[A-Za-z\\s\\+]+[\\d]{1,2}[\\s]+[-]?[\\s]{0,2}([A-Za-z\\s-/',\\.!:]+)$"),
+				Pattern.compile("[\"']([A-Za-z\\s-/',\\.!:]+)[\"']"),
+				Pattern.compile("[A-Za-z\\s\\+]+[\\d]{1,2}[\\s]+[-]?[\\s]{0,2}([A-Za-z\\s-/',\\.!:]+)[\\d]{0,2}[vV][\\.]?[\\d]{1,2}$"),
+				Pattern.compile("- ([A-Za-z\\s-/',\\.!:]+)[\\s]?[\\[,]"),
+				Pattern.compile("[A-Za-z\\s\\+]+[\\d]{1,2}[\\s]+[-]?[\\s]{0,2}([A-Za-z\\s-/',\\.!:]+)[\\d]\\.[\\d]$"),
+				Pattern.compile("[A-Za-z\\s\\+]+[\\d]{1,2}[\\s]+[-]?[\\s]{0,2}([A-Za-z\\s-/',\\.!:]+)\\("),
+				Pattern.compile("- ([A-Za-z\\s-/',\\.!:]+)$"),
+				Pattern.compile("^([A-Za-z\\s-/',\\.!:]+)$"),
+				Pattern.compile("[A-Za-z\\s\\+-]+[\\d]{1,2}[\\s]+[-]?[\\s]{0,2}([A-Za-z\\s-/',\\.!:]+)\\["),
+				Pattern.compile("\\] ([A-Za-z\\s-/',\\.!:]+)$"),
+				Pattern.compile("- ([A-Za-z\\s-/',\\.!:]+) - [\\d]"),
+				Pattern.compile("[\\d]+[\\s]+([A-Za-z\\s-/',\\.!:]+)$"),
+				Pattern.compile("[A-Za-z\\s\\+]+[\\d]{1,2}[\\s]+[-]?[\\s]{0,2}([A-Za-z\\s-/',\\.!:]+)[\\d]+$"),
+				Pattern.compile("[\\d]+ ([A-Za-z\\s-/',\\.!:]+)$"),
+				Pattern.compile("[\\d]+[\\.]? ([A-Za-z\\s-/',\\.!:]+)\\["),
+				Pattern.compile("[\\d]+[\\.]? ([A-Za-z\\s-/',\\.!:]+) - [\\d]"),
+				Pattern.compile("[\\d]+[\\.]? ([A-Za-z\\s-/',\\.!:]+)[\\d]+"),
+				Pattern.compile("[\\d]+[\\.]? ([A-Za-z\\s-/',\\.!:]+)$"),
+				Pattern.compile(".*(BB52 Was.*n da los\\?)$") };
+	/**
+	 * Patterns that extract the size of the event in group <tt>1</tt>.
+	 */
+	private static final Pattern[] SIZE_PATTERNS = {
+				Pattern.compile("[A-Za-z]+[\\+\\s]?(\\d\\d)[\\s\\]]"),
+				Pattern.compile("[A-Za-z]{2}\\+ (\\d\\d)\\s"),
+				Pattern.compile("\\s[A-Za-z]{2}(\\d\\d)"),
+				Pattern.compile("\\s[A-Za-z]{4}[\\s]?-[\\s]?(\\d\\d)"),
+				Pattern.compile("\\s[A-Za-z]{2}(\\d)\\s"),
+				Pattern.compile("\\s[A-Za-z]{4}(\\d)\\s"),
+				Pattern.compile("\\s[A-Za-z]{2}\\s(\\d)\\s"),
+				Pattern.compile("\\s[A-Za-z]{4}\\s(\\d\\d)"),
+				Pattern.compile("\\s[A-Za-z]{3}(\\d\\d)\\+") };
+	/**
+	 * Patterns that identify the type of the event, indexed like
+	 * {@link #TYPES}.
+	 */
+	private static final Pattern[] TYPE_PATTERNS = {
+				Pattern.compile("((CO)|(COOP))[\\s]?[\\d]", Pattern.CASE_INSENSITIVE),
+				Pattern.compile("((CO)|(COOP))\\+[\\s]?[\\d]", Pattern.CASE_INSENSITIVE),
+				Pattern.compile("(TVT[\\s\\+]{0,2}[\\d])|(TVT-EVENT)|(TVT [A-Za-z])|(S-PVP)|(SKIRMISH)", Pattern.CASE_INSENSITIVE),
+				Pattern.compile("((BB)|(BLACKBOX))[\\s]?[\\d]", Pattern.CASE_INSENSITIVE),
+				Pattern.compile("COMP[\\s]?[\\d]", Pattern.CASE_INSENSITIVE),
+				Pattern.compile("((MILSIM)|(MIL)|(MILSIM\\+))[\\s]?[\\d]", Pattern.CASE_INSENSITIVE),
+				Pattern.compile("(ORG[A\\s-]{0,4}[\\dX])|(TRAINING)|(BUNG)|(THEORIE)|(VORTRAG)", Pattern.CASE_INSENSITIVE) };
+	/**
+	 * Types of the event, indexed like {@link #TYPE_PATTERNS}.
+	 */
+	private static final EventType[] TYPES = { EventType.COOP, EventType.COOP_PLUS, EventType.TVT,
+			EventType.BLACKBOX, EventType.COMPETITION, EventType.MILSIM, EventType.ORGA };
+
+	/**
+	 * Extracts the details of the event from the given title.
+	 * 
+	 * @param title
+	 *            Title of the event thread
+	 * @return The details of the event
+	 */
+	public static TitleInfo parse(final String title) {
+		final Map<TitleRuleKind, TitleRule> rules = TitleRules.classify(title);
+
+		// Get type
+		EventType type = EventType.NO_TYPE;
+		ParseFailure typeFailure = null;
+		final TitleRule typeRule = rules.get(TitleRuleKind.TYPE);
+		if (typeRule != null) {
+			type = EventType.valueOf(typeRule.getValue());
+		} else {
+			for (int i = 0; i < TYPE_PATTERNS.length && type == EventType.NO_TYPE; i++) {
+				if (TYPE_PATTERNS[i].matcher(title).find()) {
+					type = TYPES[i];
+				}
+			}
+			if (type == EventType.NO_TYPE) {
+				typeFailure = new ParseFailure("Can't parse event type from title", title);
+			}
+		}
+
+		// Get size
+		int size = TitleInfo.NO_SIZE;
+		ParseFailure sizeFailure = null;
+		final TitleRule sizeRule = rules.get(TitleRuleKind.SIZE);
+		if (sizeRule != null) {
+			size = Integer.parseInt(sizeRule.getValue());
+		} else {
+			final Matcher matcher = findFirst(SIZE_PATTERNS, title);
+			if (matcher != null) {
+				size = Integer.parseInt(matcher.group(1));
+			}
+			if (size == TitleInfo.NO_SIZE) {
+				sizeFailure = new ParseFailure("Can't parse event size from title", title);
+			}
+		}
+
+		// Get name
+		String name;
+		ParseFailure nameFailure = null;
+		final TitleRule nameRule = rules.get(TitleRuleKind.NAME);
+		if (nameRule != null) {
+			name = nameRule.getValue();
+		} else {
+			final Matcher matcher = findFirst(NAME_PATTERNS, title);
+			if (matcher == null) {
+				nameFailure = new ParseFailure("Can't parse thread name from title (using title instead)",
+						title);
+				name = title;
+			} else {
+				name = matcher.group(1).trim();
+			}
+		}
+
+		// Get date
+		TitleDate date;
+		ParseFailure dateFailure = null;
+		final TitleRule dateRule = rules.get(TitleRuleKind.DATE);
+		if (dateRule != null) {
+			date = new TitleDate(dateRule.getValue(), null);
+		} else {
+			final String titleWithMonths = TitleDateParser.replaceMonths(title);
+			date = TitleDateParser.findDate(titleWithMonths);
+			if (date == null) {
+				dateFailure = new ParseFailure("Can't parse date from title", titleWithMonths);
+			}
+		}
+
+		return new TitleInfo(rules, type, typeFailure, size, sizeFailure, name, nameFailure, date, dateFailure);
+	}
+
+	/**
+	 * Finds the first of the given patterns that matches the given title.
+	 * 
+	 * @param patterns
+	 *            Patterns to try in order
+	 * @param title
+	 *            Title to match
+	 * @return The matcher of the first pattern that matches or <tt>null</tt>
+	 *         if none matches
+	 */
+	private static Matcher findFirst(final Pattern[] patterns, final String title) {
+		for (final Pattern pattern : patterns) {
+			final Matcher matcher = pattern.matcher(title);
+			if (matcher.find()) {
+				return matcher;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private TitleParser() {
+
+	}
+}
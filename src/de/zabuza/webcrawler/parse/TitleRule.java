@@ -0,0 +1,80 @@
+package de.zabuza.webcrawler.parse;
+
+import de.zabuza.webcrawler.enums.TitleRuleKind;
+
+/**
+ * Rule that fires if the title of an event thread contains its pattern.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class TitleRule {
+	/**
+	 * Kind of the rule.
+	 */
+	private final TitleRuleKind kind;
+	/**
+	 * Text a title has to contain for the rule to fire.
+	 */
+	private final String pattern;
+	/**
+	 * Value the rule sets or <tt>null</tt> if it sets none.
+	 */
+	private final String value;
+
+	/**
+	 * Creates a new rule.
+	 * 
+	 * @param thatKind
+	 *            Kind of the rule
+	 * @param thatPattern
+	 *            Text a title has to contain for the rule to fire
+	 * @param thatValue
+	 *            Value the rule sets or <tt>null</tt> if it sets none
+	 */
+	public TitleRule(final TitleRuleKind thatKind, final String thatPattern, final String thatValue) {
+		this.kind = thatKind;
+		this.pattern = thatPattern;
+		this.value = thatValue;
+	}
+
+	/**
+	 * Gets the kind of the rule.
+	 * 
+	 * @return The kind of the rule
+	 */
+	public TitleRuleKind getKind() {
+		return this.kind;
+	}
+
+	/**
+	 * Gets the text a title has to contain for the rule to fire.
+	 * 
+	 * @return The pattern of the rule
+	 */
+	public String getPattern() {
+		return this.pattern;
+	}
+
+	/**
+	 * Gets the value the rule sets.
+	 * 
+	 * @return The value of the rule or <tt>null</tt> if it sets none
+	 */
+	public String getValue() {
+		return this.value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		if (this.value == null) {
+			return this.kind + " '" + this.pattern + "'";
+		}
+		return this.kind + " '" + this.pattern + "' => " + this.value;
+	}
+}
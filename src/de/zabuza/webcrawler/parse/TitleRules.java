@@ -0,0 +1,139 @@
+package de.zabuza.webcrawler.parse;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import de.zabuza.webcrawler.enums.TitleRuleKind;
+
+/**
+ * Utility class that classifies titles of event threads by the rules that
+ * fire for them, for example threads that are no events or events whose
+ * details can not be extracted from the title. The rules are loaded once from the
+ * resources of this class, new rules only need to be added there. A title is
+ * matched against all rules in a single pass.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class TitleRules {
+	/**
+	 * Name of the resource that contains the date overrides, one entry of
+	 * the form <tt>pattern;dd.MM.yyyy</tt> per line, encoded in UTF-8.
+	 */
+	public static final String DATES_RESOURCE = "titleDates.csv";
+	/**
+	 * Name of the resource that contains the patterns of threads that are no
+	 * events, one pattern per line, encoded in UTF-8.
+	 */
+	public static final String EXCLUSIONS_RESOURCE = "titleExclusions.csv";
+	/**
+	 * Name of the resource that contains the name overrides, one entry of
+	 * the form <tt>pattern;name</tt> per line, encoded in UTF-8.
+	 */
+	public static final String NAMES_RESOURCE = "titleNames.csv";
+	/**
+	 * Name of the resource that contains the size overrides, one entry of
+	 * the form <tt>pattern;size</tt> per line, encoded in UTF-8.
+	 */
+	public static final String SIZES_RESOURCE = "titleSizes.csv";
+	/**
+	 * Name of the resource that contains the time overrides, one entry of
+	 * the form <tt>pattern;HH:mm:ss</tt> per line, encoded in UTF-8.
+	 */
+	public static final String TIMES_RESOURCE = "titleTimes.csv";
+	/**
+	 * Name of the resource that contains the type overrides, one entry of
+	 * the form <tt>pattern;type</tt> per line where the type is the name of
+	 * an {@link de.zabuza.webcrawler.enums.EventType}, encoded in UTF-8.
+	 */
+	public static final String TYPES_RESOURCE = "titleTypes.csv";
+	/**
+	 * All rules, the rules of a kind in the order of their resource.
+	 */
+	private static final List<TitleRule> RULES = loadRules();
+	/**
+	 * Matcher for the patterns of the rules, indexed like {@link #RULES}.
+	 */
+	private static final KeywordMatcher MATCHER = createMatcher();
+
+	/**
+	 * Classifies the given title by the rules that fire for it. If multiple
+	 * rules of a kind fire the one listed first in its resource wins.
+	 * 
+	 * @param title
+	 *            Title of the event thread
+	 * @return Map of the kinds of the fired rules to the rules
+	 */
+	public static Map<TitleRuleKind, TitleRule> classify(final String title) {
+		final Map<TitleRuleKind, TitleRule> fired = new EnumMap<>(TitleRuleKind.class);
+		final BitSet found = MATCHER.findAll(title.trim());
+		for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+			final TitleRule rule = RULES.get(i);
+			if (!fired.containsKey(rule.getKind())) {
+				fired.put(rule.getKind(), rule);
+			}
+		}
+		return fired;
+	}
+
+	/**
+	 * Gets the amount of known rules.
+	 * 
+	 * @return The amount of known rules
+	 */
+	public static int size() {
+		return RULES.size();
+	}
+
+	/**
+	 * Creates the matcher for the patterns of the rules.
+	 * 
+	 * @return The created matcher
+	 */
+	private static KeywordMatcher createMatcher() {
+		final List<String> patterns = new ArrayList<>(RULES.size());
+		for (final TitleRule rule : RULES) {
+			patterns.add(rule.getPattern());
+		}
+		return new KeywordMatcher(patterns);
+	}
+
+	/**
+	 * Loads the rules from the resources.
+	 * 
+	 * @return The loaded rules
+	 */
+	private static List<TitleRule> loadRules() {
+		final List<TitleRule> rules = new ArrayList<>();
+		for (final String pattern : ResourceTable.readList(EXCLUSIONS_RESOURCE)) {
+			rules.add(new TitleRule(TitleRuleKind.EXCLUSION, pattern, null));
+		}
+		for (final String[] entry : ResourceTable.read(DATES_RESOURCE)) {
+			rules.add(new TitleRule(TitleRuleKind.DATE, entry[0], entry[1]));
+		}
+		for (final String[] entry : ResourceTable.read(NAMES_RESOURCE)) {
+			rules.add(new TitleRule(TitleRuleKind.NAME, entry[0], entry[1]));
+		}
+		for (final String[] entry : ResourceTable.read(SIZES_RESOURCE)) {
+			rules.add(new TitleRule(TitleRuleKind.SIZE, entry[0], entry[1]));
+		}
+		for (final String[] entry : ResourceTable.read(TIMES_RESOURCE)) {
+			rules.add(new TitleRule(TitleRuleKind.TIME, entry[0], entry[1]));
+		}
+		for (final String[] entry : ResourceTable.read(TYPES_RESOURCE)) {
+			rules.add(new TitleRule(TitleRuleKind.TYPE, entry[0], entry[1]));
+		}
+		return Collections.unmodifiableList(rules);
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private TitleRules() {
+
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * This is the package of web crawlers parsers for the content of event threads.
+ */
+package de.zabuza.webcrawler.parse;
\ No newline at end of file
@@ -7,10 +7,12 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.TreeMap;
 
 import de.zabuza.webcrawler.database.EventDb;
@@ -274,6 +276,30 @@ public final class EventList implements Serializable, Iterable<EventData> {
 		return this.list.iterator();
 	}
 
+	/**
+	 * Merges newer versions of events into this list. Events of this list are
+	 * replaced by the element of the given list with the same thread id.
+	 * 
+	 * @param updates
+	 *            List with new or changed events
+	 * @return New list that contains all elements of the given list followed
+	 *         by the elements of this list that were not replaced
+	 */
+	public EventList merge(final EventList updates) {
+		final Set<Integer> updatedThreadIds = new HashSet<>(updates.getSize());
+		final EventList merged = new EventList(this.list.size() + updates.getSize());
+		for (final EventData datum : updates) {
+			updatedThreadIds.add(Integer.valueOf(datum.getThreadId()));
+			merged.add(datum);
+		}
+		for (final EventData datum : this.list) {
+			if (!updatedThreadIds.contains(Integer.valueOf(datum.getThreadId()))) {
+				merged.add(datum);
+			}
+		}
+		return merged;
+	}
+
 	@Override
 	public String toString() {
 		final StringBuilder builder = new StringBuilder();
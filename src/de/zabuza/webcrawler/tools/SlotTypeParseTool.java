@@ -1,16 +1,23 @@
 package de.zabuza.webcrawler.tools;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import de.zabuza.webcrawler.parse.SlotTypeIndex;
 
 /**
- * Utility tool for slot parsing.
+ * Utility tool for slot parsing. Adds the slot names of a slot type file to
+ * the resource of {@link SlotTypeIndex}.
  * 
  * @author Zabuza {@literal <zabuza.dev@gmail.com>}
  *
@@ -20,6 +27,10 @@ public final class SlotTypeParseTool {
 	 * Path to the file that contains external data.
 	 */
 	private static final String FILEPATH = "C:\\Users\\Zabuza\\Desktop\\";
+	/**
+	 * Path to the resource of the slot type index.
+	 */
+	private static final String FILEPATH_INDEX = "src/de/zabuza/webcrawler/parse/" + SlotTypeIndex.RESOURCE;
 
 	/**
 	 * Gets the content of a file and returns it as list of lines.
@@ -45,7 +56,8 @@ public final class SlotTypeParseTool {
 	}
 
 	/**
-	 * Gets the content of a slot type file and generates code for it.
+	 * Gets the content of a slot type file and appends the slot names that are
+	 * not known yet to the resource of the slot type index.
 	 * 
 	 * @param args
 	 *            Not supported
@@ -56,16 +68,36 @@ public final class SlotTypeParseTool {
 		final String filename = "1to62.csv";
 		final List<String> list = getFileContent(FILEPATH + filename);
 
-		final String header = "//Generated by SlotParseTool : " + filename;
-		System.out.println(header);
+		// Names are compared case-folded like the index does, without loading
+		// it since the resource may not exist yet
+		final Set<String> set = new HashSet<>();
+		if (new File(FILEPATH_INDEX).isFile()) {
+			try (final BufferedReader index = new BufferedReader(
+					new InputStreamReader(new FileInputStream(FILEPATH_INDEX), StandardCharsets.UTF_8))) {
+				String line = index.readLine();
+				while (line != null) {
+					final String[] data = SlotTypeIndex.split(line);
+					if (data != null) {
+						set.add(SlotTypeIndex.fold(data[0]));
+					}
+					line = index.readLine();
+				}
+			}
+		}
 
-		final Set<String> set = new HashSet<>(list.size());
-		for (final String line : list) {
-			final String[] data = line.split(";");
-			if (set.add(data[0])) {
-				System.out.println("generatedMap.put(\"" + data[0] + "\", " + "SlotType." + data[1] + ");");
+		int added = 0;
+		try (final BufferedWriter index = new BufferedWriter(
+				new OutputStreamWriter(new FileOutputStream(FILEPATH_INDEX, true), StandardCharsets.UTF_8))) {
+			for (final String line : list) {
+				final String[] data = SlotTypeIndex.split(line);
+				if (data != null && set.add(SlotTypeIndex.fold(data[0]))) {
+					index.write(data[0] + SlotTypeIndex.SEPARATOR + data[1]);
+					index.write('\n');
+					added++;
+				}
 			}
 		}
+		System.out.println("Added " + added + " slot names of " + filename + " to " + FILEPATH_INDEX);
 	}
 
 	/**
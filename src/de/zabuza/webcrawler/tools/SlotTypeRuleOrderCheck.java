@@ -0,0 +1,70 @@
+package de.zabuza.webcrawler.tools;
+
+import de.zabuza.webcrawler.enums.SlotType;
+import de.zabuza.webcrawler.parse.AdaptiveRuleOrder;
+import de.zabuza.webcrawler.parse.SlotTypeRules;
+
+/**
+ * Utility tool that checks that a learned rule order does not change the
+ * results of {@link SlotTypeRules}. It learns an order from slot texts where
+ * the rules of XO win most often and then classifies a slot text that the
+ * rules of XO and CO both match, which must still be classified as CO.
+ *
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class SlotTypeRuleOrderCheck {
+	/**
+	 * Slot texts to learn the rule order from.
+	 */
+	private static final String[] LEARN_TEXTS = { "XO", "XO (Alpha)", "RTO", "Rechte Hand", "Executive Officer",
+			"XO/TC", "CO" };
+	/**
+	 * Slot texts to classify with the learned order.
+	 */
+	private static final String[] CHECK_TEXTS = { "Kommandierender Offizier", "XO", "CO", "RTO", "XO/TC" };
+
+	/**
+	 * Learns a rule order and checks that the slot texts are classified as
+	 * with the order by priority. Throws an {@link AssertionError} if a result
+	 * differs.
+	 *
+	 * @param args
+	 *            Not supported
+	 */
+	public static void main(final String[] args) {
+		final AdaptiveRuleOrder ruleOrder = SlotTypeRules.getRuleOrder();
+
+		final SlotType[] expected = new SlotType[CHECK_TEXTS.length];
+		for (int i = 0; i < CHECK_TEXTS.length; i++) {
+			expected[i] = SlotTypeRules.classify(CHECK_TEXTS[i]);
+		}
+		if (expected[0] != SlotType.CO) {
+			throw new AssertionError("Expected " + SlotType.CO + " for '" + CHECK_TEXTS[0] + "' but got " + expected[0]);
+		}
+
+		ruleOrder.setLearning(true);
+		for (final String text : LEARN_TEXTS) {
+			SlotTypeRules.classify(text);
+		}
+		ruleOrder.setLearning(false);
+		ruleOrder.reorder();
+		System.out.println("Learned: " + ruleOrder);
+
+		for (int i = 0; i < CHECK_TEXTS.length; i++) {
+			final SlotType type = SlotTypeRules.classify(CHECK_TEXTS[i]);
+			if (type != expected[i]) {
+				throw new AssertionError(
+						"Expected " + expected[i] + " for '" + CHECK_TEXTS[i] + "' but got " + type);
+			}
+		}
+		System.out.println("All " + CHECK_TEXTS.length + " slot texts classified as by priority.");
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private SlotTypeRuleOrderCheck() {
+
+	}
+}
@@ -0,0 +1,248 @@
+package de.zabuza.webcrawler.tools;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import de.zabuza.webcrawler.archive.ArchivedPage;
+import de.zabuza.webcrawler.archive.PageArchiveReader;
+import de.zabuza.webcrawler.parse.ThreadLineParser;
+
+/**
+ * Utility tool that measures how long searching the starting time and the
+ * map of events takes per thread, once with {@link ThreadLineParser} and once
+ * the way it was done before, where patterns were compiled for every line.
+ * The threads are taken from a page archive.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ThreadLineParseBenchmark {
+	/**
+	 * Path to the page archive that is used if no path is given.
+	 */
+	private static final String FILEPATH_PAGE_ARCHIVE = "res/pageArchive.gz";
+	/**
+	 * Amount of rounds over all threads, the first half warms up.
+	 */
+	private static final int ROUNDS = 10;
+	/**
+	 * Mask where events content ends.
+	 */
+	private static final String THREAD_CONTENT_END = "<!--sub_forum_post_message-->";
+	/**
+	 * Mask where events title begins.
+	 */
+	private static final String THREAD_MASK_TITLE = "class='forum_thread_title'>";
+
+	/**
+	 * Measures both ways of searching the threads of a page archive and
+	 * prints the time per thread.
+	 * 
+	 * @param args
+	 *            Path to the page archive, optional
+	 * @throws IOException
+	 *             If an I/O-Exception occurred
+	 */
+	public static void main(final String[] args) throws IOException {
+		final String path;
+		if (args.length > 0) {
+			path = args[0];
+		} else {
+			path = FILEPATH_PAGE_ARCHIVE;
+		}
+
+		// Collect the contents of threads together with the index of their title
+		final List<List<String>> contents = new ArrayList<>();
+		final List<Integer> titleIndices = new ArrayList<>();
+		try (final PageArchiveReader reader = new PageArchiveReader(path)) {
+			ArchivedPage page = reader.next();
+			while (page != null) {
+				final List<String> content = page.getContent();
+				final int titleIndex = indexOfLine(content, THREAD_MASK_TITLE, 0);
+				if (titleIndex != -1 && indexOfLine(content, THREAD_CONTENT_END, titleIndex + 1) != -1) {
+					contents.add(content);
+					titleIndices.add(titleIndex);
+				}
+				page = reader.next();
+			}
+		}
+		if (contents.isEmpty()) {
+			System.err.println("No threads in page archive: " + path);
+			return;
+		}
+
+		long legacyNanos = 0;
+		long currentNanos = 0;
+		int differences = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			final boolean isMeasured = round >= ROUNDS / 2;
+			for (int i = 0; i < contents.size(); i++) {
+				final List<String> content = contents.get(i);
+				final int titleIndex = titleIndices.get(i).intValue();
+
+				final long legacyStart = System.nanoTime();
+				final String legacyTime = findEventTimeLegacy(content, titleIndex);
+				final String legacyMap = findMapLegacy(content, titleIndex);
+				final long currentStart = System.nanoTime();
+				final String currentTime = findEventTime(content, titleIndex);
+				final String currentMap = findMap(content, titleIndex);
+				final long currentEnd = System.nanoTime();
+
+				if (isMeasured) {
+					legacyNanos += currentStart - legacyStart;
+					currentNanos += currentEnd - currentStart;
+				} else if (round == 0
+						&& (!Objects.equals(legacyTime, currentTime) || !Objects.equals(legacyMap, currentMap))) {
+					differences++;
+				}
+			}
+		}
+
+		final long measuredThreads = (long) contents.size() * (ROUNDS - ROUNDS / 2);
+		final long legacyPerThread = legacyNanos / measuredThreads;
+		final long currentPerThread = currentNanos / measuredThreads;
+		System.out.println("Threads: " + contents.size() + ", differences: " + differences);
+		System.out.println("Compiled per line: " + legacyPerThread + " ns per thread");
+		System.out.println("ThreadLineParser: " + currentPerThread + " ns per thread");
+		System.out.println("Saving: " + (legacyPerThread - currentPerThread) + " ns per thread");
+	}
+
+	/**
+	 * Searches the starting time of the event using {@link ThreadLineParser}.
+	 * 
+	 * @param content
+	 *            Content of the thread
+	 * @param titleIndex
+	 *            Index of the line that contains the title
+	 * @return The starting time or <tt>null</tt> if there is none
+	 */
+	private static String findEventTime(final List<String> content, final int titleIndex) {
+		int i = titleIndex;
+		String line;
+		do {
+			i++;
+			line = ThreadLineParser.normalizeTimeLine(content.get(i));
+			final String time = ThreadLineParser.findEventTime(line);
+			if (time != null) {
+				return time;
+			}
+		} while (!line.contains(THREAD_CONTENT_END));
+		return null;
+	}
+
+	/**
+	 * Searches the starting time of the event the way it was done before
+	 * {@link ThreadLineParser}.
+	 * 
+	 * @param content
+	 *            Content of the thread
+	 * @param titleIndex
+	 *            Index of the line that contains the title
+	 * @return The starting time or <tt>null</tt> if there is none
+	 */
+	private static String findEventTimeLegacy(final List<String> content, final int titleIndex) {
+		int i = titleIndex;
+		String line;
+		Pattern pattern;
+		Matcher matcher;
+		do {
+			i++;
+			line = content.get(i);
+			line = line.replaceAll("", "-");
+			line = line.replaceAll("<span style='color:#.{3,6}'>", "");
+			line = line.replaceAll("<span style='font-size:.{1,6}'>", "");
+			line = line.replaceAll("</span>", "");
+			final String beforeTimePattern = "^[\\s]*(<(strong|i)>)?(Eventbeginn|Beginn|Eventstart|"
+					+ "Treffen im (Teamspeak|TS)|Start|Treffen|Sammeln im Teamspeak|Trainingsbeginn)(<\\/(strong|i)>)?:(<\\/(strong|i)>)?";
+			final String timePattern = "([0-9]{2}[\\.:]?[0-9]{2})";
+			pattern = Pattern.compile(beforeTimePattern + "(\\s|&gt;|\\-|ab)*(<strong>)?" + timePattern
+					+ "[\\s]*(Uhr|h)?(<\\/strong>)?(\\s|&lt;)*<br[\\s]?\\/>", Pattern.CASE_INSENSITIVE);
+			matcher = pattern.matcher(line);
+			if (matcher.find()) {
+				return matcher.group(11).replaceAll("[\\.:]", "");
+			}
+		} while (!line.contains(THREAD_CONTENT_END));
+		return null;
+	}
+
+	/**
+	 * Searches the first line that names a map using
+	 * {@link ThreadLineParser}.
+	 * 
+	 * @param content
+	 *            Content of the thread
+	 * @param titleIndex
+	 *            Index of the line that contains the title
+	 * @return The name of the map or <tt>null</tt> if there is none
+	 */
+	private static String findMap(final List<String> content, final int titleIndex) {
+		int i = titleIndex;
+		String line;
+		do {
+			i++;
+			line = content.get(i);
+			final String map = ThreadLineParser.findMap(line);
+			if (map != null) {
+				return map;
+			}
+		} while (!line.contains(THREAD_CONTENT_END));
+		return null;
+	}
+
+	/**
+	 * Searches the first line that names a map the way it was done before
+	 * {@link ThreadLineParser}.
+	 * 
+	 * @param content
+	 *            Content of the thread
+	 * @param titleIndex
+	 *            Index of the line that contains the title
+	 * @return The name of the map or <tt>null</tt> if there is none
+	 */
+	private static String findMapLegacy(final List<String> content, final int titleIndex) {
+		int i = titleIndex;
+		String line;
+		Pattern pattern;
+		Matcher matcher;
+		do {
+			i++;
+			line = content.get(i);
+			pattern = Pattern.compile("((Map)|(Karte))[\\s]?:[\\s]?(.+)<", Pattern.CASE_INSENSITIVE);
+			matcher = pattern.matcher(line);
+			if (matcher.find()) {
+				return matcher.group(4);
+			}
+		} while (!line.contains(THREAD_CONTENT_END));
+		return null;
+	}
+
+	/**
+	 * Gets the index of the first line that contains the given text.
+	 * 
+	 * @param content
+	 *            Lines to search
+	 * @param text
+	 *            Text to find
+	 * @param fromIndex
+	 *            Index of the line to start at
+	 * @return The index of the line or <tt>-1</tt> if there is none
+	 */
+	private static int indexOfLine(final List<String> content, final String text, final int fromIndex) {
+		for (int i = fromIndex; i < content.size(); i++) {
+			if (content.get(i).contains(text)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private ThreadLineParseBenchmark() {
+
+	}
+}
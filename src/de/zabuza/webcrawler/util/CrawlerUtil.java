@@ -1,26 +1,37 @@
 package de.zabuza.webcrawler.util;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.net.URL;
-import java.security.GeneralSecurityException;
-import java.security.SecureRandom;
-import java.security.cert.X509Certificate;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
-
+import de.zabuza.webcrawler.archive.PageArchive;
+import de.zabuza.webcrawler.net.HttpCache;
+import de.zabuza.webcrawler.net.HttpFetcher;
+import de.zabuza.webcrawler.net.LineConsumer;
 import de.zabuza.webcrawler.struct.EventList;
 
 /**
@@ -30,51 +41,102 @@ import de.zabuza.webcrawler.struct.EventList;
  *
  */
 public final class CrawlerUtil {
+	/**
+	 * Semaphore whose amount of permits can be reduced by other classes.
+	 * 
+	 * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+	 *
+	 */
+	private static final class ResizableSemaphore extends Semaphore {
+		/**
+		 * The serial version UID.
+		 */
+		private static final long serialVersionUID = 1L;
 
-	static {
-		final TrustManager[] trustAllCertificates = new TrustManager[] { new X509TrustManager() {
-			/*
-			 * (non-Javadoc)
-			 * 
-			 * @see
-			 * javax.net.ssl.X509TrustManager#checkClientTrusted(java.security.
-			 * cert.X509Certificate[], java.lang.String)
-			 */
-			@Override
-			public void checkClientTrusted(final X509Certificate[] certs, final String authType) {
-				// Do nothing. Just allow them all.
-			}
+		/**
+		 * Creates a new semaphore with the given amount of permits.
+		 * 
+		 * @param permits
+		 *            Initial amount of permits
+		 */
+		public ResizableSemaphore(final int permits) {
+			super(permits);
+		}
 
-			/*
-			 * (non-Javadoc)
-			 * 
-			 * @see
-			 * javax.net.ssl.X509TrustManager#checkServerTrusted(java.security.
-			 * cert.X509Certificate[], java.lang.String)
-			 */
-			@Override
-			public void checkServerTrusted(final X509Certificate[] certs, final String authType) {
-				// Do nothing. Just allow them all.
-			}
+		/**
+		 * Reduces the amount of permits by the given amount. Permits that are
+		 * currently acquired stay valid, the amount of available permits can
+		 * become negative until they are released.
+		 * 
+		 * @param reduction
+		 *            Amount of permits to remove
+		 */
+		public void reduce(final int reduction) {
+			reducePermits(reduction);
+		}
+	}
 
-			/*
-			 * (non-Javadoc)
-			 * 
-			 * @see javax.net.ssl.X509TrustManager#getAcceptedIssuers()
-			 */
-			@Override
-			public X509Certificate[] getAcceptedIssuers() {
-				// Not relevant.
-				return null;
-			}
-		} };
+	/**
+	 * Default amount of web requests that may be in flight at the same time
+	 * when using the asynchronous fetch engine.
+	 */
+	private static final int DEFAULT_MAX_PARALLEL_FETCHES = 4;
+	/**
+	 * Amount of platform threads used by the asynchronous fetch engine if the
+	 * runtime does not support virtual threads.
+	 */
+	private static final int FETCH_PLATFORM_THREADS = 16;
+	/**
+	 * Executor that runs the asynchronous web requests, one virtual thread per
+	 * request if supported by the runtime.
+	 */
+	private static final ExecutorService fetchExecutor = createFetchExecutor();
+	/**
+	 * Permits for web requests that are in flight at the same time.
+	 */
+	private static final ResizableSemaphore fetchPermits = new ResizableSemaphore(DEFAULT_MAX_PARALLEL_FETCHES);
+	/**
+	 * Maximal amount of web requests that may be in flight at the same time,
+	 * the total amount of permits of {@link #fetchPermits}. Guarded by the
+	 * class.
+	 */
+	private static int maxParallelFetches = DEFAULT_MAX_PARALLEL_FETCHES;
+	/**
+	 * Archive all fetched web pages get appended to or <tt>null</tt> if they
+	 * are not archived.
+	 */
+	private static volatile PageArchive pageArchive = null;
 
+	/**
+	 * Waits for the given result of a crawling task and returns it.
+	 * 
+	 * @param <T>
+	 *            The actual class of the result
+	 * @param result
+	 *            Result to wait for
+	 * @return The computed result
+	 * @throws IOException
+	 *             If the task failed with an I/O-Exception or if the waiting
+	 *             thread got interrupted
+	 */
+	public static <T> T awaitResult(final Future<T> result) throws IOException {
 		try {
-			final SSLContext sc = SSLContext.getInstance("SSL");
-			sc.init(null, trustAllCertificates, new SecureRandom());
-			HttpsURLConnection.setDefaultSSLSocketFactory(sc.getSocketFactory());
-		} catch (final GeneralSecurityException e) {
-			throw new ExceptionInInitializerError(e);
+			return result.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for crawling task.");
+		} catch (final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException(cause);
 		}
 	}
 
@@ -189,6 +251,20 @@ public final class CrawlerUtil {
 		return list;
 	}
 
+	/**
+	 * Gets statistics about the web requests, like the achieved request rate.
+	 * 
+	 * @return Text representation of the request statistics
+	 */
+	public static String getFetchStatistics() {
+		final HttpFetcher fetcher = HttpFetcher.getInstance();
+		final HttpCache cache = fetcher.getCache();
+		if (cache == null) {
+			return fetcher.getRateLimiter().toString();
+		}
+		return fetcher.getRateLimiter() + "; cache: " + cache;
+	}
+
 	/**
 	 * Gets the content of a file and returns it as list of lines.
 	 * 
@@ -213,7 +289,10 @@ public final class CrawlerUtil {
 	}
 
 	/**
-	 * Gets the content of a web page and returns it as list of lines.
+	 * Gets the content of a web page and returns it as list of lines. All
+	 * requests share the connections and the rate limit of
+	 * {@link HttpFetcher}. The page gets appended to the page archive if one
+	 * is set.
 	 * 
 	 * @param path
 	 *            Path to the web page
@@ -222,18 +301,78 @@ public final class CrawlerUtil {
 	 *             If an I/O-Exception occurs
 	 */
 	public static List<String> getWebContent(final String path) throws IOException {
-		final URL url = new URL(path);
-		try (final BufferedReader site = new BufferedReader(new InputStreamReader(url.openStream()))) {
-			final List<String> content = new ArrayList<>();
+		final List<String> content = new ArrayList<>();
+		getWebContent(path, new LineConsumer() {
+			@Override
+			public boolean accept(final String line) {
+				return content.add(line);
+			}
+		});
+		return content;
+	}
 
-			String line = site.readLine();
-			while (line != null) {
+	/**
+	 * Gets the content of a web page and feeds it line by line to the given
+	 * consumer while it is still being received, lines the consumer does not
+	 * want are not read at all. All requests share the connections and the
+	 * rate limit of {@link HttpFetcher}. If a page archive is set, the whole
+	 * page is read and appended to it, the consumer still only gets the lines
+	 * it wants. The same holds if a http cache is set, see
+	 * {@link HttpFetcher#fetchLines(String, LineConsumer)}.
+	 * 
+	 * @param path
+	 *            Path to the web page
+	 * @param consumer
+	 *            Consumer to feed the lines to
+	 * @throws IOException
+	 *             If an I/O-Exception occurs
+	 */
+	public static void getWebContent(final String path, final LineConsumer consumer) throws IOException {
+		final PageArchive archive = pageArchive;
+		if (archive == null) {
+			HttpFetcher.getInstance().fetchLines(path, consumer);
+			return;
+		}
+
+		// The archive gets the whole page, it is parsed again later on
+		final List<String> content = new ArrayList<>();
+		HttpFetcher.getInstance().fetchLines(path, new LineConsumer() {
+			/**
+			 * Whether the consumer wants further lines.
+			 */
+			private boolean consuming = true;
+
+			@Override
+			public boolean accept(final String line) {
 				content.add(line);
-				line = site.readLine();
+				if (this.consuming) {
+					this.consuming = consumer.accept(line);
+				}
+				return true;
 			}
+		});
+		archive.append(path, content);
+	}
 
-			return content;
-		}
+	/**
+	 * Gets the content of a web page asynchronously. The request runs on the
+	 * fetch engine which uses a virtual thread per request if supported by the
+	 * runtime, waiting requests therefore cost almost no resources. The amount
+	 * of requests in flight is bounded, see
+	 * {@link #setMaxParallelFetches(int)}.
+	 * 
+	 * @param path
+	 *            Path to the web page
+	 * @return Future list of lines from the content, it fails with an
+	 *         I/O-Exception if one occurs
+	 */
+	public static Future<List<String>> getWebContentAsync(final String path) {
+		return submitFetch(new Callable<List<String>>() {
+			@Override
+			public List<String> call() throws IOException {
+				return getWebContent(path);
+			}
+		});
 	}
 
 	/**
@@ -269,6 +408,153 @@ public final class CrawlerUtil {
 		}
 	}
 
+	/**
+	 * Sets the directory of the persistent cache for web pages. Cached pages
+	 * get revalidated with a conditional request, unchanged pages are then not
+	 * downloaded again.
+	 * 
+	 * @param path
+	 *            Path to the cache directory or <tt>null</tt> to disable the
+	 *            cache
+	 * @throws IOException
+	 *             If the cache directory could not be created
+	 */
+	public static void setHttpCache(final String path) throws IOException {
+		if (path == null) {
+			HttpFetcher.getInstance().setCache(null);
+		} else {
+			HttpFetcher.getInstance().setCache(new HttpCache(path));
+		}
+	}
+
+	/**
+	 * Sets the maximal amount of web requests that may be in flight at the
+	 * same time when using the asynchronous fetch engine. The limit also
+	 * applies to requests that are already waiting or in flight, if it gets
+	 * lowered no further request starts until enough of them are done.
+	 * 
+	 * @param thatMaxParallelFetches
+	 *            Maximal amount of parallel requests, at least <tt>1</tt>
+	 */
+	public static synchronized void setMaxParallelFetches(final int thatMaxParallelFetches) {
+		if (thatMaxParallelFetches < 1) {
+			throw new IllegalArgumentException(
+					"At least one parallel fetch must be allowed: " + thatMaxParallelFetches);
+		}
+		final int difference = thatMaxParallelFetches - maxParallelFetches;
+		if (difference > 0) {
+			fetchPermits.release(difference);
+		} else if (difference < 0) {
+			fetchPermits.reduce(-difference);
+		}
+		maxParallelFetches = thatMaxParallelFetches;
+	}
+
+	/**
+	 * Sets the ceiling of the request rate for all web requests. The actual
+	 * rate adapts to the response times of the server below that ceiling.
+	 * 
+	 * @param maxRequestsPerSecond
+	 *            Ceiling of the rate in requests per second
+	 */
+	public static void setMaxRequestRate(final double maxRequestsPerSecond) {
+		HttpFetcher.getInstance().getRateLimiter().setMaxRate(maxRequestsPerSecond);
+	}
+
+	/**
+	 * Sets the archive all fetched web pages get appended to. The archive can
+	 * be parsed again later on without using the network.
+	 * 
+	 * @param archive
+	 *            Archive to append pages to or <tt>null</tt> to not archive
+	 *            pages
+	 */
+	public static void setPageArchive(final PageArchive archive) {
+		pageArchive = archive;
+	}
+
+	/**
+	 * Runs a task that fetches web pages on the fetch engine, which uses a
+	 * virtual thread per task if supported by the runtime. The task counts as
+	 * one request in flight until it is done, including the time it takes to
+	 * process the pages, see {@link #setMaxParallelFetches(int)}.
+	 * 
+	 * @param <T>
+	 *            The actual class of the result
+	 * @param task
+	 *            Task to run
+	 * @return Future result of the task, it fails with the exception of the
+	 *         task if one occurs
+	 */
+	public static <T> Future<T> submitFetch(final Callable<T> task) {
+		return fetchExecutor.submit(new Callable<T>() {
+			@Override
+			public T call() throws Exception {
+				fetchPermits.acquire();
+				try {
+					return task.call();
+				} finally {
+					fetchPermits.release();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Writes a file through a temporary file in the same directory that then
+	 * replaces the file, atomically if the file system supports it. Readers
+	 * thus never see a partially written file.
+	 * 
+	 * @param file
+	 *            File to write
+	 * @param writer
+	 *            Writer that writes the content of the file
+	 * @throws IOException
+	 *             If an I/O-Exception occurs
+	 */
+	public static void writeFileAtomically(final File file, final DataWriter writer) throws IOException {
+		final File target = file.getAbsoluteFile();
+		final File temporary = File.createTempFile(target.getName(), ".tmp", target.getParentFile());
+		try {
+			try (final DataOutputStream output = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(temporary)))) {
+				writer.write(output);
+			}
+			try {
+				Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+						StandardCopyOption.ATOMIC_MOVE);
+			} catch (final AtomicMoveNotSupportedException e) {
+				Files.move(temporary.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(temporary.toPath());
+		}
+	}
+
+	/**
+	 * Creates the executor of the asynchronous fetch engine. Uses a virtual
+	 * thread per task if the runtime supports it, else a fixed amount of
+	 * daemon platform threads.
+	 * 
+	 * @return The created executor
+	 */
+	private static ExecutorService createFetchExecutor() {
+		try {
+			final Method virtualExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) virtualExecutor.invoke(null);
+		} catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+			// Runtime has no virtual threads, fall back to platform threads
+			return Executors.newFixedThreadPool(FETCH_PLATFORM_THREADS, new ThreadFactory() {
+				@Override
+				public Thread newThread(final Runnable runnable) {
+					final Thread thread = new Thread(runnable, "fetch-engine");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+	}
+
 	/**
 	 * Utility class. No implementation.
 	 */
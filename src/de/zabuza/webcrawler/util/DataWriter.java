@@ -0,0 +1,23 @@
+package de.zabuza.webcrawler.util;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Writer that writes the content of a file, see
+ * {@link CrawlerUtil#writeFileAtomically(java.io.File, DataWriter)}.
+ *
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public interface DataWriter {
+	/**
+	 * Writes the content of the file to the given output.
+	 *
+	 * @param output
+	 *            Output to write to
+	 * @throws IOException
+	 *             If an I/O-Exception occurs
+	 */
+	void write(DataOutputStream output) throws IOException;
+}
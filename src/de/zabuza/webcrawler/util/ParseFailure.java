@@ -0,0 +1,57 @@
+package de.zabuza.webcrawler.util;
+
+/**
+ * Data container for a failure of a parser. Stores the rule that failed and
+ * the input that could not be parsed, see {@link ParseTelemetry}.
+ *
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ParseFailure {
+	/**
+	 * Input that could not be parsed.
+	 */
+	private final String input;
+	/**
+	 * Name of the rule that failed.
+	 */
+	private final String rule;
+
+	/**
+	 * Creates a new data container for a failure of a parser.
+	 *
+	 * @param thatRule
+	 *            Name of the rule that failed, like <tt>Can't parse event
+	 *            type from title</tt>
+	 * @param thatInput
+	 *            Input that could not be parsed
+	 */
+	public ParseFailure(final String thatRule, final String thatInput) {
+		this.rule = thatRule;
+		this.input = thatInput;
+	}
+
+	/**
+	 * @return the input
+	 */
+	public String getInput() {
+		return this.input;
+	}
+
+	/**
+	 * @return the rule
+	 */
+	public String getRule() {
+		return this.rule;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return this.rule + ": " + this.input;
+	}
+}
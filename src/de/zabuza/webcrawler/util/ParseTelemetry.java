@@ -0,0 +1,242 @@
+package de.zabuza.webcrawler.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Utility class that collects the failures of parsers instead of printing
+ * each of them. Every failure belongs to a rule, like
+ * <tt>Can not parse slot type out of</tt>, and has the input that could not
+ * be parsed. Per rule the failures get counted and the first
+ * {@link #SAMPLE_SIZE} inputs are kept as samples. Reporting never locks,
+ * the failures are counted by a {@link LongAdder} so parallel workers do not
+ * contend on them. A summary of all rules can be printed once at the end of a
+ * run.
+ * 
+ * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+ *
+ */
+public final class ParseTelemetry {
+	/**
+	 * Failures and samples of a single rule.
+	 * 
+	 * @author Zabuza {@literal <zabuza.dev@gmail.com>}
+	 *
+	 */
+	private static final class Rule {
+		/**
+		 * Amount of failures of the rule.
+		 */
+		private final LongAdder failures;
+		/**
+		 * Name of the rule.
+		 */
+		private final String name;
+		/**
+		 * Amount of samples that were claimed, may exceed the capacity of
+		 * {@link #samples}.
+		 */
+		private final AtomicInteger sampled;
+		/**
+		 * Inputs of the first failures of the rule.
+		 */
+		private final AtomicReferenceArray<String> samples;
+
+		/**
+		 * Creates a new rule without failures.
+		 * 
+		 * @param thatName
+		 *            Name of the rule
+		 */
+		public Rule(final String thatName) {
+			this.name = thatName;
+			this.failures = new LongAdder();
+			this.sampled = new AtomicInteger();
+			this.samples = new AtomicReferenceArray<>(SAMPLE_SIZE);
+		}
+
+		/**
+		 * Gets the amount of failures of the rule.
+		 * 
+		 * @return The amount of failures
+		 */
+		public long getFailures() {
+			return this.failures.sum();
+		}
+
+		/**
+		 * Gets the name of the rule.
+		 * 
+		 * @return The name of the rule
+		 */
+		public String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Gets the inputs of the first failures of the rule.
+		 * 
+		 * @return The sampled inputs in the order they were reported
+		 */
+		public List<String> getSamples() {
+			final int size = Math.min(this.sampled.get(), SAMPLE_SIZE);
+			final List<String> inputs = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				final String input = this.samples.get(i);
+				// A sample may be claimed but not yet be written
+				if (input != null) {
+					inputs.add(input);
+				}
+			}
+			return inputs;
+		}
+
+		/**
+		 * Records a failure of the rule.
+		 * 
+		 * @param input
+		 *            Input that could not be parsed
+		 */
+		public void record(final String input) {
+			this.failures.increment();
+			if (this.sampled.get() < SAMPLE_SIZE) {
+				final int sample = this.sampled.getAndIncrement();
+				if (sample < SAMPLE_SIZE) {
+					this.samples.set(sample, input);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Maximal amount of inputs that are kept as samples per rule.
+	 */
+	public static final int SAMPLE_SIZE = 5;
+	/**
+	 * Rules that had failures by their name.
+	 */
+	private static final ConcurrentHashMap<String, Rule> RULES = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets the amount of failures of the given rule.
+	 * 
+	 * @param rule
+	 *            Name of the rule
+	 * @return The amount of failures of the rule
+	 */
+	public static long getFailures(final String rule) {
+		final Rule failures = RULES.get(rule);
+		if (failures == null) {
+			return 0;
+		}
+		return failures.getFailures();
+	}
+
+	/**
+	 * Gets the inputs of the first failures of the given rule.
+	 * 
+	 * @param rule
+	 *            Name of the rule
+	 * @return The sampled inputs in the order they were reported, at most
+	 *         {@link #SAMPLE_SIZE}
+	 */
+	public static List<String> getSamples(final String rule) {
+		final Rule failures = RULES.get(rule);
+		if (failures == null) {
+			return Collections.emptyList();
+		}
+		return failures.getSamples();
+	}
+
+	/**
+	 * Gets a summary of all failures, one line per rule with the amount of
+	 * failures and the sampled inputs. Rules with more failures come first.
+	 * 
+	 * @return The summary of all failures
+	 */
+	public static String getSummary() {
+		// Take a snapshot, the counters may change while sorting
+		final Map<Rule, Long> failures = new HashMap<>();
+		long totalFailures = 0;
+		for (final Rule rule : RULES.values()) {
+			final long ruleFailures = rule.getFailures();
+			failures.put(rule, Long.valueOf(ruleFailures));
+			totalFailures += ruleFailures;
+		}
+		final List<Rule> rules = new ArrayList<>(failures.keySet());
+		Collections.sort(rules, new Comparator<Rule>() {
+			@Override
+			public int compare(final Rule first, final Rule second) {
+				final int byFailures = failures.get(second).compareTo(failures.get(first));
+				if (byFailures != 0) {
+					return byFailures;
+				}
+				return first.getName().compareTo(second.getName());
+			}
+		});
+
+		final StringBuilder summary = new StringBuilder();
+		summary.append(totalFailures).append(" failures of ").append(rules.size()).append(" rules");
+		for (final Rule rule : rules) {
+			summary.append(System.lineSeparator()).append("\t").append(failures.get(rule)).append(" x ")
+					.append(rule.getName());
+			for (final String input : rule.getSamples()) {
+				summary.append(System.lineSeparator()).append("\t\t").append(input);
+			}
+		}
+		return summary.toString();
+	}
+
+	/**
+	 * Reports the given failure.
+	 * 
+	 * @param failure
+	 *            The failure to report
+	 */
+	public static void report(final ParseFailure failure) {
+		report(failure.getRule(), failure.getInput());
+	}
+
+	/**
+	 * Reports a failure of the given rule.
+	 * 
+	 * @param rule
+	 *            Name of the rule, like <tt>Can not parse slot type out
+	 *            of</tt>
+	 * @param input
+	 *            Input that could not be parsed
+	 */
+	public static void report(final String rule, final String input) {
+		Rule failures = RULES.get(rule);
+		if (failures == null) {
+			final Rule created = new Rule(rule);
+			failures = RULES.putIfAbsent(rule, created);
+			if (failures == null) {
+				failures = created;
+			}
+		}
+		failures.record(input);
+	}
+
+	/**
+	 * Forgets all reported failures.
+	 */
+	public static void reset() {
+		RULES.clear();
+	}
+
+	/**
+	 * Utility class. No implementation.
+	 */
+	private ParseTelemetry() {
+
+	}
+}